@@ -1,21 +1,35 @@
 package io.frictionlessdata.tableschema;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.frictionlessdata.tableschema.exception.*;
+import io.frictionlessdata.tableschema.field.AnyField;
 import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.StringField;
+import io.frictionlessdata.tableschema.io.CsvWriter;
 import io.frictionlessdata.tableschema.iterator.BeanIterator;
 import io.frictionlessdata.tableschema.iterator.SimpleTableIterator;
 import io.frictionlessdata.tableschema.iterator.TableIterator;
+import io.frictionlessdata.tableschema.iterator.TypedRow;
+import io.frictionlessdata.tableschema.iterator.TypedRowIterator;
 import io.frictionlessdata.tableschema.schema.BeanSchema;
+import io.frictionlessdata.tableschema.schema.InferenceState;
+import io.frictionlessdata.tableschema.schema.SamplingStrategy;
 import io.frictionlessdata.tableschema.schema.Schema;
 import io.frictionlessdata.tableschema.tabledatasource.BeanTableDataSource;
 import io.frictionlessdata.tableschema.tabledatasource.CsvTableDataSource;
+import io.frictionlessdata.tableschema.tabledatasource.MappedCsvTableDataSource;
+import io.frictionlessdata.tableschema.tabledatasource.NdjsonTableDataSource;
 import io.frictionlessdata.tableschema.tabledatasource.StringArrayTableDataSource;
 import io.frictionlessdata.tableschema.tabledatasource.TableDataSource;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 import io.frictionlessdata.tableschema.util.TableSchemaUtil;
+import io.frictionlessdata.tableschema.validation.TableValidator;
+import io.frictionlessdata.tableschema.validation.ValidationReport;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 
@@ -24,6 +38,8 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 /**
  * This class represents a CSV or JSON-array encoded  table with optional CSV specification
@@ -145,6 +161,78 @@ public class Table{
         return table;
     }
 
+    /**
+     * Create Table from a local {@link java.io.File} containing CSV data that is memory-mapped
+     * instead of being read through a Reader. Only the cells of columns that are mapped to
+     * Schema fields are turned into Strings when iterating the Table.
+     * @param dataSource relative File for reading the data from. Must be inside `basePath`
+     * @param basePath Parent directory
+     * @param schema The table Schema. Can be `null`
+     * @param format The expected CSVFormat. Can be `null`
+     */
+    public static Table fromMappedFile(File dataSource, File basePath, Schema schema, CSVFormat format) {
+        Table table = new Table();
+        table.dataSource = TableDataSource.fromMappedFile(dataSource, basePath);
+        table.schema = schema;
+        if (null != format) {
+            table.setCsvFormat(format);
+        }
+        return table;
+    }
+
+    /**
+     * Create Table from a local {@link java.io.File} containing a JSON array of arrays or of objects that is read
+     * from a token stream instead of being parsed into memory. If a Schema is given, its field names are used as
+     * headers, otherwise the headers of an array of objects are collected in a pass over the whole file.
+     * @param dataSource relative File for reading the data from. Must be inside `basePath`
+     * @param basePath Parent directory
+     * @param schema The table Schema. Can be `null`
+     */
+    public static Table fromStreamingJson(File dataSource, File basePath, Schema schema) {
+        Table table = new Table();
+        String[] headers = (null == schema) ? null : schema.getHeaders();
+        table.dataSource = TableDataSource.fromStreamingJson(dataSource, basePath, headers);
+        table.schema = schema;
+        return table;
+    }
+
+    /**
+     * Create Table from a local {@link java.io.File} containing newline-delimited JSON (NDJSON), one JSON array or
+     * object per line. The file is streamed line by line. If a Schema is given, its field names are used as headers
+     * of JSON objects, otherwise the headers are collected in a pass over the whole file.
+     * @param dataSource relative File for reading the data from. Must be inside `basePath`
+     * @param basePath Parent directory
+     * @param schema The table Schema. Can be `null`
+     * @param decodingPool pool to decode lines in parallel on. Can be `null` to decode on the reading thread
+     */
+    public static Table fromNdjson(File dataSource, File basePath, Schema schema, ForkJoinPool decodingPool) {
+        String[] headers = (null == schema) ? null : schema.getHeaders();
+        NdjsonTableDataSource ds = TableDataSource.fromNdjson(dataSource, basePath, headers);
+        ds.setDecodingPool(decodingPool);
+        Table table = new Table();
+        table.dataSource = ds;
+        table.schema = schema;
+        return table;
+    }
+
+    /**
+     * Create Table from an {@link java.io.InputStream} containing newline-delimited JSON (NDJSON), one JSON array
+     * or object per line. The stream is read line by line, so the Table can only be read once. JSON objects need a
+     * Schema, whose field names are used as headers.
+     * @param data InputStream for reading the data from
+     * @param schema The table Schema. Can be `null` for lines holding JSON arrays
+     * @param decodingPool pool to decode lines in parallel on. Can be `null` to decode on the reading thread
+     */
+    public static Table fromNdjson(InputStream data, Schema schema, ForkJoinPool decodingPool) {
+        String[] headers = (null == schema) ? null : schema.getHeaders();
+        NdjsonTableDataSource ds = TableDataSource.fromNdjson(data, headers);
+        ds.setDecodingPool(decodingPool);
+        Table table = new Table();
+        table.dataSource = ds;
+        table.schema = schema;
+        return table;
+    }
+
     /**
      * Create Table from a {@link java.io.File} containing the CSV/JSON
      * data and without either a Schema or a CSVFormat.
@@ -311,6 +399,17 @@ public class Table{
         return new SimpleTableIterator(this, relations);
     }
 
+    /**
+     * This method creates an Iterator that will return table rows as {@link TypedRow} instances, which hold
+     * the values of numeric and boolean fields as primitives. The same TypedRow instance is returned for
+     * every row, its values are only valid until the next call to `next()`. It does not follow relations.
+     *
+     * @return Iterator that returns rows as TypedRow instances.
+     */
+    public TypedRowIterator typedRowIterator() {
+        return new TypedRowIterator(this);
+    }
+
     /**
      * This method creates an Iterator that will return table rows as a Map&lt;String,Object&gt;
      * where key is the header name, and val is the data converted to Java objects. It does not follow relations.
@@ -432,40 +531,175 @@ public class Table{
         return read(cast);
     }
 
+    /**
+     * Read all data from the Table in parallel on `pool` and hand each row to `consumer`. Rows are Object arrays if
+     * a Schema is set on the Table, String arrays if not.
+     *
+     * For Tables created via {@link #fromMappedFile(File, File, Schema, CSVFormat)}, the file is split into byte
+     * ranges on record boundaries and each range is parsed and cast as a separate task. Other data sources are read
+     * as one single chunk.
+     *
+     * The consumer is always called from the calling thread. If `ordered` is true, rows are delivered in the order
+     * of the data, otherwise chunks of rows are delivered in the order they finish, which keeps all threads busy
+     * if the first chunks are slow. At most two chunks per thread of the pool are held in memory.
+     *
+     * It ignores relations to other data sources.
+     *
+     * @param pool the pool to read and cast on
+     * @param ordered if true, deliver rows in the order of the data
+     * @param consumer receives the rows
+     */
+    public void readParallel(ForkJoinPool pool, boolean ordered, Consumer<Object[]> consumer) {
+        boolean cast = (null != schema);
+        if(cast && this.schema.isEmpty()){
+            throw new InvalidCastException("Schema has no fields");
+        }
+        // resolve headers and column mapping before reading from multiple threads
+        getHeaders();
+        Map<Integer, Integer> mapping = getSchemaHeaderMapping();
+        List<Iterator<String[]>> chunks;
+        if (dataSource instanceof MappedCsvTableDataSource) {
+            Collection<Integer> columns = ((null != schema) && (null != mapping)) ? mapping.values() : null;
+            chunks = ((MappedCsvTableDataSource) dataSource).split(pool.getParallelism() * 4, columns, pool);
+        } else {
+            chunks = Collections.singletonList(dataSource.iterator());
+        }
+
+        int window = Math.max(1, pool.getParallelism() * 2);
+        ExecutorCompletionService<List<Object[]>> completionService = new ExecutorCompletionService<>(pool);
+        Deque<Future<List<Object[]>>> pending = new ArrayDeque<>();
+        int submitted = 0;
+        try {
+            while (!pending.isEmpty() || (submitted < chunks.size())) {
+                while ((submitted < chunks.size()) && (pending.size() < window)) {
+                    Callable<List<Object[]>> task = readChunk(chunks.get(submitted++), cast);
+                    pending.add(ordered ? pool.submit(task) : completionService.submit(task));
+                }
+                Future<List<Object[]>> next;
+                if (ordered) {
+                    next = pending.poll();
+                } else {
+                    next = completionService.take();
+                    pending.remove(next);
+                }
+                next.get().forEach(consumer);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TableIOException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new TableIOException(ex.getCause());
+        } finally {
+            pending.forEach((f) -> f.cancel(true));
+        }
+    }
+
+    /**
+     * Read all data from the Table in parallel on the common {@link ForkJoinPool}, each row as Object arrays if a
+     * Schema is set on the table, String arrays if not. See {@link #readParallel(ForkJoinPool, boolean, Consumer)}.
+     *
+     * @param ordered if true, return rows in the order of the data
+     * @return A list of table rows.
+     */
+    public List<Object[]> readParallel(boolean ordered) {
+        List<Object[]> rows = new ArrayList<>();
+        readParallel(ForkJoinPool.commonPool(), ordered, rows::add);
+        return rows;
+    }
+
+    private Callable<List<Object[]>> readChunk(Iterator<String[]> chunk, boolean cast) {
+        return () -> {
+            List<Object[]> rows = new ArrayList<>();
+            TableIterator<Object[]> iter = new TableIterator<>(this, chunk, cast);
+            iter.forEachRemaining(rows::add);
+            return rows;
+        };
+    }
+
     /**
      * Read all data from the Table and return it as JSON. If no Schema is set on the table, one will be inferred.
      * This can be used for smaller data tables but for huge or unknown sizes, there will be performance considerations,
-     * as this method loads all data into RAM *and* does a costly schema inferal.
+     * as this method holds the JSON of all data in RAM *and* does a costly schema inferal. Use
+     * {@link #writeJson(Writer, boolean)} to stream the JSON to a Writer instead.
      *
      * It ignores relations to other data sources.
      *
      * @return A JSON representation of the data as a String.
      */
     public String asJson() {
-        List<Map<String, Object>> rows = new ArrayList<>();
+        StringWriter out = new StringWriter();
+        writeJson(out, false);
+        return out.toString();
+    }
+
+    /**
+     * Write all data from the Table as a JSON array of objects to a provided {@link java.io.Writer}. If no Schema
+     * is set on the table, one will be inferred.
+     *
+     * Rows are written through a Jackson {@link JsonGenerator} as they are read, so memory use does not depend
+     * on the size of the table. The Writer is flushed, but not closed.
+     *
+     * It ignores relations to other data sources.
+     *
+     * @param out the Writer to write to
+     * @param compact if true, write the JSON without whitespace, otherwise pretty-printed like {@link #asJson()}
+     */
+    public void writeJson(Writer out, boolean compact) {
         Schema schema = (null != this.schema) ? this.schema : this.inferSchema();
+        List<Field<?>> fields = schema.getFields();
+        ObjectMapper mapper = JsonUtil.getInstance().getMapper();
+        // flushing after each value would defeat the buffering of the Writer
+        ObjectWriter valueWriter = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
-        Iterator<Object> iter = this.iterator(false, false, true, false);
-        iter.forEachRemaining((rec) -> {
-            Object[] row = (Object[])rec;
-            Map<String, Object> obj = new LinkedHashMap<>();
-            int i = 0;
-            for (Field field : schema.getFields()) {
-                Object s = row[i];
-                obj.put(field.getName(), field.formatValueForJson(s));
-                i++;
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!compact) {
+                generator.useDefaultPrettyPrinter();
             }
-            rows.add(obj);
-        });
-
-        String retVal = null;
-        ObjectMapper mapper = JsonUtil.getInstance().getMapper();
-        try {
-            retVal = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(rows);
+            generator.writeStartArray();
+            Iterator<Object> iter = this.iterator(false, false, true, false);
+            while (iter.hasNext()) {
+                Object[] row = (Object[]) iter.next();
+                generator.writeStartObject();
+                for (int i = 0; i < fields.size(); i++) {
+                    Field field = fields.get(i);
+                    Object value = field.formatValueForJson(row[i]);
+                    // like the mapper, omit `null` values
+                    if (null == value) {
+                        continue;
+                    }
+                    generator.writeFieldName(field.getName());
+                    if (value instanceof String) {
+                        generator.writeString((String) value);
+                    } else {
+                        valueWriter.writeValue(generator, value);
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
         } catch (JsonProcessingException ex) {
             throw new JsonSerializingException(ex);
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+    }
+
+    /**
+     * Write all data from the Table as a JSON array of objects to a File, see {@link #writeJson(Writer, boolean)}
+     *
+     * @param outputFile the File to write to
+     * @param compact if true, write the JSON without whitespace, otherwise pretty-printed
+     */
+    public void writeJson(File outputFile, boolean compact) {
+        try (Writer fw = new BufferedWriter(new FileWriter(outputFile, charset))) {
+            writeJson(fw, compact);
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
         }
-        return retVal;
     }
 
     /**
@@ -494,30 +728,11 @@ public class Table{
      * @return A CSV representation of the data as a String.
      */
     public String asCsv(CSVFormat format, String[] headerNames) {
-        StringBuilder out = new StringBuilder();
-        try {
-            if (null == headerNames) {
-                return asCsv(format, getHeaders());
-            }
-            CSVFormat locFormat = (null != format)
-                    ? format
-                    : TableDataSource.getDefaultCsvFormat();
-
-            locFormat = locFormat.builder().setHeader(headerNames).get();
-            CSVPrinter csvPrinter = new CSVPrinter(out, locFormat);
-
-            String[] headers = getHeaders();
-            Map<Integer, Integer> mapping
-                    = TableSchemaUtil.createSchemaHeaderMapping(headers, headerNames, dataSource.hasReliableHeaders());
-            if ((null != schema)) {
-                writeCSVData(mapping, schema, csvPrinter);
-            } else {
-                writeCSVData(mapping, csvPrinter);
-            }
-            csvPrinter.close();
-        } catch (IOException ex) {
-            throw new TableIOException(ex);
+        if (null == headerNames) {
+            return asCsv(format, getHeaders());
         }
+        StringWriter out = new StringWriter();
+        printCsv(out, format, headerNames);
         String result = out.toString();
         if (result.endsWith("\n")) {
             result = result.substring(0, result.length() - 1);
@@ -535,28 +750,23 @@ public class Table{
      * @param dataFormat the format to use, either CSV or JSON.
      */
     public void write(Writer out, TableDataSource.Format dataFormat) {
-        try  {
-            if (dataFormat.equals(TableDataSource.Format.FORMAT_CSV)) {
-                try {
-                    String[] headers;
-                    if (null != schema) {
-                        List<String> fieldNames = schema.getFields().stream().map(Field::getName).toList();
-                        headers = fieldNames.toArray(new String[0]);
-                    } else {
-                        headers = dataSource.getHeaders();
-                    }
-                    writeCsv(out, this.format, headers);
-                } catch (Exception ex) {
-                    if (ex instanceof RuntimeException)
-                        throw ex;
-                    throw new RuntimeException(ex);
+        if (dataFormat.equals(TableDataSource.Format.FORMAT_CSV)) {
+            try {
+                String[] headers;
+                if (null != schema) {
+                    List<String> fieldNames = schema.getFields().stream().map(Field::getName).toList();
+                    headers = fieldNames.toArray(new String[0]);
+                } else {
+                    headers = dataSource.getHeaders();
                 }
-            } else if (dataFormat.equals(TableDataSource.Format.FORMAT_JSON)) {
-                String content = this.asJson();
-                out.write(content);
+                writeCsv(out, this.format, headers);
+            } catch (Exception ex) {
+                if (ex instanceof RuntimeException)
+                    throw ex;
+                throw new RuntimeException(ex);
             }
-        } catch (IOException ex) {
-            throw new TableIOException(ex);
+        } else if (dataFormat.equals(TableDataSource.Format.FORMAT_JSON)) {
+            writeJson(out, false);
         }
     }
 
@@ -603,17 +813,33 @@ public class Table{
      * as JSON-objects do not have a sort order of their keys. Therefore, reading not from
      * a CSV but a JSON array of JSON objects needs this flexibility.
      *
+     * If the headers match, the Schema is validated against the Table, see {@link Schema#validate(Table)}.
+     *
      * @throws TableValidationException thrown if the header names do not match the
      *          fields declared in the schema
      * @throws TableSchemaException thrown if something goes wrong retrieving the table headers
      */
     public void validate() throws TableValidationException, TableSchemaException {
+        if (validateHeaders())
+            schema.validate(this);
+    }
+
+    /**
+     * Validates that names of the headers are as declared in the Schema like {@link #validate()}, without
+     * validating the Schema against the data of the Table.
+     *
+     * @return false if the Table has no Schema or no headers, so there was nothing to validate
+     * @throws TableValidationException thrown if the header names do not match the
+     *          fields declared in the schema
+     * @throws TableSchemaException thrown if something goes wrong retrieving the table headers
+     */
+    public boolean validateHeaders() throws TableValidationException, TableSchemaException {
         if (null == schema)
-            return;
+            return false;
         String[] headers = dataSource.getHeaders();
         // if the data has no headers (CSV table without header row), we can't validate against the Schema
         if (null == headers) {
-            return;
+            return false;
         }
         List<String> declaredHeaders = schema.getFields().stream().map(Field::getName).toList();
         List<String> foundHeaders = Arrays.asList(headers);
@@ -630,8 +856,43 @@ public class Table{
                 throw new TableValidationException("Found undeclared column: "+col);
             }
         }
-        if (null != schema)
-            schema.validate(this);
+        return true;
+    }
+
+    /**
+     * Validate the data of the Table against its Schema in one pass: every cell is cast to the type of its Field
+     * and checked against the Field's constraints. Errors are collected up to
+     * {@link TableValidator#DEFAULT_MAX_ERRORS}, see {@link TableValidator}.
+     *
+     * @return the validation report
+     */
+    public ValidationReport validateData() {
+        return new TableValidator().validate(this);
+    }
+
+    /**
+     * Validate the data of the Table against its Schema in one pass, see {@link TableValidator}.
+     *
+     * @param mode whether to stop at the first error or collect them
+     * @param maxErrors the maximum number of errors to collect
+     * @return the validation report
+     */
+    public ValidationReport validateData(TableValidator.Mode mode, int maxErrors) {
+        return new TableValidator(mode, maxErrors).validate(this);
+    }
+
+    /**
+     * Validate the data of the Table against its Schema in parallel on `pool`: the calling thread reads the raw
+     * rows in batches that are cast and checked as separate tasks. Errors are reported in the order of the rows,
+     * see {@link TableValidator#validate(Table, ForkJoinPool)}.
+     *
+     * @param pool the pool to check the rows on
+     * @param mode whether to stop at the first error or collect them
+     * @param maxErrors the maximum number of errors to collect
+     * @return the validation report
+     */
+    public ValidationReport validateDataParallel(ForkJoinPool pool, TableValidator.Mode mode, int maxErrors) {
+        return new TableValidator(mode, maxErrors).validate(this, pool);
     }
 
     /**
@@ -676,9 +937,96 @@ public class Table{
     }
 
     public Schema inferSchema(String[] headers, int rowLimit) throws TypeInferringException{
+        boolean cast = (null != schema);
+        // stream the rows instead of reading the whole table, inference stops reading at `rowLimit`
+        try (TableIterator<Object[]> iter = new TableIterator<>(this, false, false, cast, false)) {
+            if (cast && this.schema.isEmpty()) {
+                throw new InvalidCastException("Schema has no fields");
+            }
+            return Schema.infer(iter, headers, rowLimit);
+
+        } catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
+    /**
+     * Score the types of the values of this Table without settling on a Schema yet. The states of the
+     * Tables holding the shards of a dataset can be merged with {@link InferenceState#merge(InferenceState)},
+     * and {@link InferenceState#toSchema()} then infers the Schema of the whole dataset.
+     *
+     * @param headers the headers of the Table
+     * @param rowLimit The max numer of rows to scan, -1 to scan all rows.
+     *
+     * @return the scores of the Table
+     */
+    public InferenceState inferState(String[] headers, int rowLimit) throws TypeInferringException{
+        boolean cast = (null != schema);
+        try (TableIterator<Object[]> iter = new TableIterator<>(this, false, false, cast, false)) {
+            if (cast && this.schema.isEmpty()) {
+                throw new InvalidCastException("Schema has no fields");
+            }
+            return new InferenceState(headers).addRows(iter, rowLimit);
+
+        } catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
+    /**
+     * Infer a Schema from the rows `sampling` selects. Unlike {@link #inferSchema(int)}, which only looks at the
+     * first rows, {@link SamplingStrategy#reservoir(int, long)} and {@link SamplingStrategy#everyKth(int)} spread
+     * the sample over the whole table while reading it only once.
+     *
+     * @param sampling the strategy selecting the rows to scan
+     *
+     * @return the created Schema
+     */
+    public Schema inferSchema(SamplingStrategy sampling) throws TypeInferringException{
         try{
-            List<Object[]> data = read();
-            return Schema.infer(data, headers, rowLimit);
+            return inferSchema(getHeaders(), sampling);
+        }catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
+    public Schema inferSchema(String[] headers, SamplingStrategy sampling) throws TypeInferringException{
+        boolean cast = (null != schema);
+        try (TableIterator<Object[]> iter = new TableIterator<>(this, false, false, cast, false)) {
+            if (cast && this.schema.isEmpty()) {
+                throw new InvalidCastException("Schema has no fields");
+            }
+            return Schema.infer(iter, headers, sampling);
+
+        } catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
+    /**
+     * Infer a Schema like {@link #inferSchema(int)} does, but score the columns in parallel on `pool`. The rows
+     * up to `rowLimit` are held in memory during inference. This pays off for tables with many columns.
+     *
+     * @param rowLimit The max numer of rows to scan, -1 to scan all rows.
+     * @param pool the pool to score the columns on
+     *
+     * @return the created Schema
+     */
+    public Schema inferSchema(int rowLimit, ForkJoinPool pool) throws TypeInferringException{
+        try{
+            return inferSchema(getHeaders(), rowLimit, pool);
+        }catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
+    public Schema inferSchema(String[] headers, int rowLimit, ForkJoinPool pool) throws TypeInferringException{
+        boolean cast = (null != schema);
+        try (TableIterator<Object[]> iter = new TableIterator<>(this, false, false, cast, false)) {
+            if (cast && this.schema.isEmpty()) {
+                throw new InvalidCastException("Schema has no fields");
+            }
+            return Schema.infer(iter, headers, rowLimit, pool);
 
         } catch(Exception e){
             throw new TypeInferringException(e);
@@ -783,21 +1131,38 @@ public class Table{
      *                      exported
      */
     private void writeCsv(Writer out, CSVFormat format, String[] sortedHeaders) {
+        if (null == sortedHeaders) {
+            writeCsv(out, format, getHeaders());
+            return;
+        }
+        printCsv(out, format, sortedHeaders);
+    }
+
+    /**
+     * Print the data as CSV with a header row of `sortedHeaders` and close the Writer. Formats supported by the
+     * {@link CsvWriter} are written by it, others through a {@link CSVPrinter}.
+     */
+    private void printCsv(Writer out, CSVFormat format, String[] sortedHeaders) {
         try {
-            if (null == sortedHeaders) {
-                writeCsv(out, format, getHeaders());
-                return;
-            }
             CSVFormat locFormat = (null != format)
                     ? format
                     : TableDataSource.getDefaultCsvFormat();
 
             locFormat = locFormat.builder().setHeader(sortedHeaders).get();
-            CSVPrinter csvPrinter = new CSVPrinter(out, locFormat);
-
             String[] headers = getHeaders();
             Map<Integer, Integer> mapping
                     = TableSchemaUtil.createSchemaHeaderMapping(headers, sortedHeaders, dataSource.hasReliableHeaders());
+            if (CsvWriter.supports(locFormat)) {
+                try (CsvWriter csvWriter = new CsvWriter(out, locFormat)) {
+                    if ((null != schema)) {
+                        writeCSVData(mapping, schema, csvWriter);
+                    } else {
+                        writeCSVData(mapping, csvWriter);
+                    }
+                }
+                return;
+            }
+            CSVPrinter csvPrinter = new CSVPrinter(out, locFormat);
             if ((null != schema)) {
                 writeCSVData(mapping, schema, csvPrinter);
             } else {
@@ -870,4 +1235,108 @@ public class Table{
             }
         });
     }
+
+    /**
+     * Write the data to a {@link CsvWriter}. Like {@link #writeCSVData(Map, Schema, CSVPrinter)}, each cell is cast
+     * and formatted via the corresponding {@link Field}, but cells of fields that return their input unchanged
+     * (`string` and `any` fields without constraints) are passed through from the data source without casting.
+     * Column sorting is according to the mapping.
+     *
+     * @param mapping the mapping of the column numbers in the CSV file to the column numbers in the data source
+     * @param schema the Schema to use for formatting the data
+     * @param csvWriter the CsvWriter to write to
+     */
+    private void writeCSVData(Map<Integer, Integer> mapping, Schema schema, CsvWriter csvWriter) throws IOException {
+        Field[] fields = schema.getFields().toArray(new Field[0]);
+        Map<Integer, Integer> schemaMapping = getSchemaHeaderMapping();
+        // for each output column: the Schema field of the value and the data column holding it, or -1
+        int[] sourceFields = new int[fields.length];
+        int[] columns = new int[fields.length];
+        boolean[] passThrough = new boolean[fields.length];
+        Arrays.fill(sourceFields, -1);
+        for (int i = 0; i < fields.length; i++) {
+            int target = mapping.get(i);
+            if (target < fields.length) {
+                sourceFields[target] = i;
+            }
+        }
+        for (int i = 0; i < fields.length; i++) {
+            int source = sourceFields[i];
+            if (source < 0) {
+                continue;
+            }
+            if (null == schemaMapping) {
+                columns[i] = source;
+            } else {
+                Integer column = schemaMapping.get(source);
+                columns[i] = (null != column) ? column : -1;
+            }
+            passThrough[i] = isPassThrough(fields[source]) && isPassThrough(fields[i]);
+        }
+
+        Iterator<String[]> iter = dataSource.iterator();
+        try {
+            while (iter.hasNext()) {
+                String[] row = iter.next();
+                for (int i = 0; i < fields.length; i++) {
+                    int source = sourceFields[i];
+                    String raw = ((source >= 0) && (columns[i] >= 0) && (columns[i] < row.length))
+                            ? row[columns[i]]
+                            : null;
+                    if (passThrough[i]) {
+                        csvWriter.print(((null == raw) || raw.isEmpty()) ? null : raw);
+                    } else {
+                        Object value = (null != raw) ? fields[source].castValue(raw) : null;
+                        csvWriter.print(fields[i].formatValueAsString(value));
+                    }
+                }
+                csvWriter.println();
+            }
+        } finally {
+            if (iter instanceof Closeable) {
+                ((Closeable) iter).close();
+            }
+        }
+    }
+
+    /**
+     * Write the data to a {@link CsvWriter}. In absence of a Schema, the cells of the data source are written
+     * unchanged. Column sorting is according to the mapping.
+     *
+     * @param mapping the mapping of the column numbers in the CSV file to the column numbers in the data source
+     * @param csvWriter the CsvWriter to write to
+     */
+    private void writeCSVData(Map<Integer, Integer> mapping, CsvWriter csvWriter) throws IOException {
+        Iterator<String[]> iter = dataSource.iterator();
+        String[] sortedRec = new String[0];
+        try {
+            while (iter.hasNext()) {
+                String[] row = iter.next();
+                if (sortedRec.length != row.length) {
+                    sortedRec = new String[row.length];
+                } else {
+                    Arrays.fill(sortedRec, null);
+                }
+                for (int i = 0; i < row.length; i++) {
+                    sortedRec[mapping.get(i)] = row[i];
+                }
+                for (String s : sortedRec) {
+                    csvWriter.print((null != s) ? s : "");
+                }
+                csvWriter.println();
+            }
+        } finally {
+            if (iter instanceof Closeable) {
+                ((Closeable) iter).close();
+            }
+        }
+    }
+
+    /**
+     * Returns whether formatting a cast value of `field` yields the String it was cast from
+     */
+    private static boolean isPassThrough(Field<?> field) {
+        return ((field instanceof StringField) || (field instanceof AnyField))
+                && ((null == field.getConstraints()) || field.getConstraints().isEmpty());
+    }
 }
\ No newline at end of file
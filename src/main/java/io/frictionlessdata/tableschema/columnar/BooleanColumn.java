@@ -0,0 +1,51 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.BitSet;
+
+/**
+ * Column of a `boolean` field with the values held in a bitmap.
+ */
+public final class BooleanColumn extends Column {
+    private final BitSet values;
+
+    BooleanColumn(Field<?> field, int size, BitSet nulls, BitSet values) {
+        super(field, size, nulls);
+        this.values = values;
+    }
+
+    /**
+     * @param row the row index
+     * @return the value in row `row`, or false if it is null
+     */
+    public boolean getBoolean(int row) {
+        checkRow(row);
+        return values.get(row);
+    }
+
+    /**
+     * Returns the indices of all rows with value `true`.
+     * @return a BitSet with the matching row indices set
+     */
+    public BitSet scanTrue() {
+        return (BitSet) values.clone();
+    }
+
+    @Override
+    Object getNonNullObject(int row) {
+        return values.get(row);
+    }
+
+    @Override
+    ColumnStatistics computeStatistics() {
+        int nullCount = nulls.cardinality();
+        // null values are stored as false
+        int trueCount = values.cardinality();
+        int falseCount = size - nullCount - trueCount;
+        int distinct = ((trueCount > 0) ? 1 : 0) + ((falseCount > 0) ? 1 : 0);
+        Boolean min = (falseCount > 0) ? Boolean.FALSE : ((trueCount > 0) ? Boolean.TRUE : null);
+        Boolean max = (trueCount > 0) ? Boolean.TRUE : ((falseCount > 0) ? Boolean.FALSE : null);
+        return new ColumnStatistics(size, nullCount, min, max, Double.NaN, distinct);
+    }
+}
@@ -0,0 +1,128 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * One column of a {@link ColumnarTable}. Subclasses hold the values in a representation fitting the field type,
+ * null values are recorded in a bitmap shared by all column types.
+ */
+public abstract class Column {
+    final Field<?> field;
+    final int size;
+    final BitSet nulls;
+
+    private ColumnStatistics statistics = null;
+
+    Column(Field<?> field, int size, BitSet nulls) {
+        this.field = field;
+        this.size = size;
+        this.nulls = nulls;
+    }
+
+    /**
+     * @return the Schema field this column holds the values of
+     */
+    public Field<?> getField() {
+        return field;
+    }
+
+    /**
+     * @return the number of rows in this column
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param row the row index
+     * @return true if the value in row `row` is null
+     */
+    public boolean isNull(int row) {
+        checkRow(row);
+        return nulls.get(row);
+    }
+
+    /**
+     * Returns the value in row `row` as an object
+     * @param row the row index
+     * @return the value or null
+     */
+    public Object getObject(int row) {
+        checkRow(row);
+        if (nulls.get(row)) {
+            return null;
+        }
+        return getNonNullObject(row);
+    }
+
+    /**
+     * Returns the indices of all rows with a non-null value that matches `predicate`.
+     * @param predicate the predicate to test the values against
+     * @return a BitSet with the matching row indices set
+     */
+    public BitSet scan(Predicate<Object> predicate) {
+        BitSet result = new BitSet(size);
+        for (int i = nulls.nextClearBit(0); i < size; i = nulls.nextClearBit(i + 1)) {
+            if (predicate.test(getNonNullObject(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the statistics of this column. They are computed on the first call.
+     * @return the column statistics
+     */
+    public ColumnStatistics getStatistics() {
+        if (null == statistics) {
+            statistics = computeStatistics();
+        }
+        return statistics;
+    }
+
+    abstract Object getNonNullObject(int row);
+
+    /**
+     * Statistics for columns of arbitrary objects: min and max if the values are Comparable,
+     * the distinct count via a HashSet of the values.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ColumnStatistics computeStatistics() {
+        Comparable min = null;
+        Comparable max = null;
+        boolean comparable = true;
+        Set<Object> distinct = new HashSet<>();
+        for (int i = nulls.nextClearBit(0); i < size; i = nulls.nextClearBit(i + 1)) {
+            Object val = getNonNullObject(i);
+            distinct.add(val);
+            if (comparable && (val instanceof Comparable)) {
+                try {
+                    if ((null == min) || (min.compareTo(val) > 0)) {
+                        min = (Comparable) val;
+                    }
+                    if ((null == max) || (max.compareTo(val) < 0)) {
+                        max = (Comparable) val;
+                    }
+                } catch (ClassCastException ex) {
+                    comparable = false;
+                }
+            } else {
+                comparable = false;
+            }
+        }
+        return new ColumnStatistics(size, nulls.cardinality(),
+                comparable ? min : null, comparable ? max : null, Double.NaN, distinct.size());
+    }
+
+    void checkRow(int row) {
+        if ((row < 0) || (row >= size)) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range [0, " + size + ")");
+        }
+    }
+}
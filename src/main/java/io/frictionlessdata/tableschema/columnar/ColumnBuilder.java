@@ -0,0 +1,278 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.BooleanField;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.NumberField;
+import io.frictionlessdata.tableschema.field.StringField;
+import io.frictionlessdata.tableschema.iterator.TypedRow;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects the values of one column row by row and creates the {@link Column} from them. Builders
+ * that can't hold a value in their representation hand over to an {@link ObjectBuilder}.
+ */
+abstract class ColumnBuilder {
+    // string columns with more distinct values are not worth encoding
+    static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    final Field<?> field;
+    BitSet nulls = new BitSet();
+    int size = 0;
+
+    ColumnBuilder(Field<?> field) {
+        this.field = field;
+    }
+
+    static ColumnBuilder forField(Field<?> field) {
+        if (field instanceof IntegerField) {
+            return new LongBuilder(field);
+        } else if (field instanceof NumberField) {
+            return new DoubleBuilder(field);
+        } else if (field instanceof BooleanField) {
+            return new BooleanBuilder(field);
+        } else if (field instanceof StringField) {
+            return new DictionaryBuilder(field);
+        }
+        return new ObjectBuilder(field);
+    }
+
+    /**
+     * Add the value in column `col` of `row`
+     * @return the builder to use for the next values, either this or a replacement
+     */
+    ColumnBuilder add(TypedRow row, int col) {
+        if (row.isNull(col)) {
+            nulls.set(size);
+            addNull();
+            size++;
+            return this;
+        }
+        return addValue(row, col);
+    }
+
+    abstract void addNull();
+
+    abstract ColumnBuilder addValue(TypedRow row, int col);
+
+    abstract Object getObject(int row);
+
+    abstract Column build();
+
+    static int newCapacity(int capacity) {
+        return Math.max(INITIAL_CAPACITY, capacity * 2);
+    }
+
+    /**
+     * Copy the values collected so far into an ObjectBuilder
+     */
+    ObjectBuilder toObjectBuilder() {
+        ObjectBuilder builder = new ObjectBuilder(field);
+        builder.values = new Object[Math.max(INITIAL_CAPACITY, size * 2)];
+        for (int i = 0; i < size; i++) {
+            builder.values[i] = nulls.get(i) ? null : getObject(i);
+        }
+        builder.nulls = nulls;
+        builder.size = size;
+        return builder;
+    }
+
+    static final class LongBuilder extends ColumnBuilder {
+        private long[] values = new long[0];
+
+        LongBuilder(Field<?> field) {
+            super(field);
+        }
+
+        @Override
+        void addNull() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length));
+            }
+        }
+
+        @Override
+        ColumnBuilder addValue(TypedRow row, int col) {
+            long val;
+            try {
+                val = row.getLong(col);
+            } catch (ArithmeticException ex) {
+                return toObjectBuilder().addValue(row, col);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length));
+            }
+            values[size++] = val;
+            return this;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return BigInteger.valueOf(values[row]);
+        }
+
+        @Override
+        Column build() {
+            return new LongColumn(field, size, nulls, Arrays.copyOf(values, size));
+        }
+    }
+
+    static final class DoubleBuilder extends ColumnBuilder {
+        private double[] values = new double[0];
+
+        DoubleBuilder(Field<?> field) {
+            super(field);
+        }
+
+        @Override
+        void addNull() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length));
+            }
+        }
+
+        @Override
+        ColumnBuilder addValue(TypedRow row, int col) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length));
+            }
+            values[size++] = row.getDouble(col);
+            return this;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        Column build() {
+            return new DoubleColumn(field, size, nulls, Arrays.copyOf(values, size));
+        }
+    }
+
+    static final class BooleanBuilder extends ColumnBuilder {
+        private final BitSet values = new BitSet();
+
+        BooleanBuilder(Field<?> field) {
+            super(field);
+        }
+
+        @Override
+        void addNull() {
+            // nothing to store
+        }
+
+        @Override
+        ColumnBuilder addValue(TypedRow row, int col) {
+            values.set(size++, row.getBoolean(col));
+            return this;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        Column build() {
+            return new BooleanColumn(field, size, nulls, values);
+        }
+    }
+
+    static final class DictionaryBuilder extends ColumnBuilder {
+        private int[] codes = new int[0];
+        private final Map<String, Integer> codeLookup = new HashMap<>();
+        private String[] dictionary = new String[0];
+
+        DictionaryBuilder(Field<?> field) {
+            super(field);
+        }
+
+        @Override
+        void addNull() {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, newCapacity(codes.length));
+            }
+            codes[size] = -1;
+        }
+
+        @Override
+        ColumnBuilder addValue(TypedRow row, int col) {
+            Object val = row.getObject(col);
+            if (!(val instanceof String)) {
+                // e.g. `binary` or `uuid` formats
+                return toObjectBuilder().addValue(row, col);
+            }
+            Integer code = codeLookup.get(val);
+            if (null == code) {
+                if (codeLookup.size() >= MAX_DICTIONARY_SIZE) {
+                    return toObjectBuilder().addValue(row, col);
+                }
+                code = codeLookup.size();
+                codeLookup.put((String) val, code);
+                if (code == dictionary.length) {
+                    dictionary = Arrays.copyOf(dictionary, newCapacity(dictionary.length));
+                }
+                dictionary[code] = (String) val;
+            }
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, newCapacity(codes.length));
+            }
+            codes[size++] = code;
+            return this;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return dictionary[codes[row]];
+        }
+
+        @Override
+        Column build() {
+            return new DictionaryColumn(field, size, nulls, Arrays.copyOf(codes, size),
+                    Arrays.copyOf(dictionary, codeLookup.size()));
+        }
+    }
+
+    static final class ObjectBuilder extends ColumnBuilder {
+        private Object[] values = new Object[0];
+
+        ObjectBuilder(Field<?> field) {
+            super(field);
+        }
+
+        @Override
+        void addNull() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length));
+            }
+        }
+
+        @Override
+        ColumnBuilder addValue(TypedRow row, int col) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length));
+            }
+            values[size++] = row.getObject(col);
+            return this;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        Column build() {
+            return new ObjectColumn(field, size, nulls, Arrays.copyOf(values, size));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.frictionlessdata.tableschema.columnar;
+
+/**
+ * Statistics of one {@link Column} of a {@link ColumnarTable}.
+ */
+public final class ColumnStatistics {
+    private final int rowCount;
+    private final int nullCount;
+    private final Object min;
+    private final Object max;
+    private final double sum;
+    private final int distinctCount;
+
+    ColumnStatistics(int rowCount, int nullCount, Object min, Object max, double sum, int distinctCount) {
+        this.rowCount = rowCount;
+        this.nullCount = nullCount;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        this.distinctCount = distinctCount;
+    }
+
+    /**
+     * @return the number of rows including null values
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the number of null values
+     */
+    public int getNullCount() {
+        return nullCount;
+    }
+
+    /**
+     * @return the smallest non-null value, or null if all values are null or the values are not comparable
+     */
+    public Object getMin() {
+        return min;
+    }
+
+    /**
+     * @return the largest non-null value, or null if all values are null or the values are not comparable
+     */
+    public Object getMax() {
+        return max;
+    }
+
+    /**
+     * @return the sum of the non-null values of numeric columns, NaN for other columns
+     */
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * @return the mean of the non-null values of numeric columns, NaN for other columns or if all values are null
+     */
+    public double getMean() {
+        int count = rowCount - nullCount;
+        return (count == 0) ? Double.NaN : sum / count;
+    }
+
+    /**
+     * @return the number of distinct non-null values
+     */
+    public int getDistinctCount() {
+        return distinctCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnStatistics{" +
+                "rowCount=" + rowCount +
+                ", nullCount=" + nullCount +
+                ", min=" + min +
+                ", max=" + max +
+                ", sum=" + sum +
+                ", distinctCount=" + distinctCount +
+                '}';
+    }
+}
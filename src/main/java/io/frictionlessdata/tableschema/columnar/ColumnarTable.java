@@ -0,0 +1,184 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.iterator.TypedRow;
+import io.frictionlessdata.tableschema.iterator.TypedRowIterator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory copy of the data of a {@link Table}, stored column by column instead of as rows of objects.
+ * The representation of a column depends on the type of its Schema field:
+ *<ul>
+ * <li> `integer` fields: {@link LongColumn}, a `long[]`</li>
+ * <li> `number` fields: {@link DoubleColumn}, a `double[]`</li>
+ * <li> `boolean` fields: {@link BooleanColumn}, a bitmap</li>
+ * <li> `string` fields: {@link DictionaryColumn}, an `int[]` of codes into a dictionary of the distinct values</li>
+ * <li> all other fields: {@link ObjectColumn}, the objects {@link Field#castValue(String)} returns</li>
+ *</ul>
+ * Null values are tracked in a bitmap per column. Integer columns with values out of the range of a long and string
+ * columns with more than 65536 distinct values are stored as ObjectColumns.
+ *
+ * This makes it a compact way to keep reference tables in memory; use {@link Table#read()} if the exact
+ * BigDecimal values of `number` fields are needed.
+ */
+public final class ColumnarTable {
+    private final Column[] columns;
+    private final Map<String, Integer> columnIndices = new LinkedHashMap<>();
+    private final int rowCount;
+
+    private ColumnarTable(Column[] columns, int rowCount) {
+        this.columns = columns;
+        this.rowCount = rowCount;
+        for (int i = 0; i < columns.length; i++) {
+            columnIndices.putIfAbsent(columns[i].getField().getName(), i);
+        }
+    }
+
+    /**
+     * Read all data of a Table and cast it into columns according to the Table's Schema.
+     * @param table the Table to read
+     * @return the columnar copy of the data
+     * @throws TableSchemaException if the Table has no Schema
+     */
+    public static ColumnarTable fromTable(Table table) {
+        if (null == table.getSchema()) {
+            throw new TableSchemaException("Cannot cast without a schema");
+        }
+        List<Field<?>> fields = table.getSchema().getFields();
+        ColumnBuilder[] builders = new ColumnBuilder[fields.size()];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = ColumnBuilder.forField(fields.get(i));
+        }
+        int rowCount = 0;
+        TypedRowIterator iter = table.typedRowIterator();
+        while (iter.hasNext()) {
+            TypedRow row = iter.next();
+            for (int i = 0; i < builders.length; i++) {
+                builders[i] = builders[i].add(row, i);
+            }
+            rowCount++;
+        }
+        Column[] columns = new Column[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            columns[i] = builders[i].build();
+        }
+        return new ColumnarTable(columns, rowCount);
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * @return the names of the columns in Schema order
+     */
+    public List<String> getColumnNames() {
+        List<String> names = new ArrayList<>();
+        for (Column column : columns) {
+            names.add(column.getField().getName());
+        }
+        return names;
+    }
+
+    /**
+     * @param index the column index
+     * @return the column with index `index`
+     */
+    public Column getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * @param fieldName the name of the Schema field
+     * @return the column holding the values of the field
+     * @throws IllegalArgumentException if there is no field with that name
+     */
+    public Column getColumn(String fieldName) {
+        return columns[getColumnIndex(fieldName)];
+    }
+
+    /**
+     * @param fieldName the name of the Schema field
+     * @return the statistics of the column holding the values of the field
+     * @throws IllegalArgumentException if there is no field with that name
+     */
+    public ColumnStatistics getStatistics(String fieldName) {
+        return getColumn(fieldName).getStatistics();
+    }
+
+    /**
+     * Create a ColumnarTable holding only the columns of the given fields, in the order given. The columns
+     * are shared with this table, not copied.
+     * @param fieldNames the names of the Schema fields
+     * @return a ColumnarTable holding the requested columns
+     * @throws IllegalArgumentException if there is no field with one of the names
+     */
+    public ColumnarTable project(String... fieldNames) {
+        Column[] projected = new Column[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            projected[i] = getColumn(fieldNames[i]);
+        }
+        return new ColumnarTable(projected, rowCount);
+    }
+
+    /**
+     * @param row the row index
+     * @return the values in row `row` as objects
+     */
+    public Object[] getRow(int row) {
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].getObject(row);
+        }
+        return values;
+    }
+
+    /**
+     * @return all rows as arrays of objects
+     */
+    public List<Object[]> read() {
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(getRow(i));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the rows with the indices set in `rows`, e.g. the result of a {@link Column#scan} call.
+     * @param rows the indices of the rows to read
+     * @return the selected rows as arrays of objects
+     */
+    public List<Object[]> read(BitSet rows) {
+        List<Object[]> result = new ArrayList<>(rows.cardinality());
+        for (int i = rows.nextSetBit(0); (i >= 0) && (i < rowCount); i = rows.nextSetBit(i + 1)) {
+            result.add(getRow(i));
+        }
+        return result;
+    }
+
+    private int getColumnIndex(String fieldName) {
+        Integer index = columnIndices.get(fieldName);
+        if (null == index) {
+            throw new IllegalArgumentException("No field with name '" + fieldName + "'");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,90 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Column of a `string` field with the values dictionary-encoded: every distinct value is stored once,
+ * the rows hold an index into the dictionary. Null values have code -1.
+ */
+public final class DictionaryColumn extends Column {
+    private final int[] codes;
+    private final String[] dictionary;
+
+    DictionaryColumn(Field<?> field, int size, BitSet nulls, int[] codes, String[] dictionary) {
+        super(field, size, nulls);
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * @param row the row index
+     * @return the dictionary code of the value in row `row`, or -1 if it is null
+     */
+    public int getCode(int row) {
+        checkRow(row);
+        return codes[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the value in row `row` or null
+     */
+    public String getString(int row) {
+        checkRow(row);
+        int code = codes[row];
+        return (code < 0) ? null : dictionary[code];
+    }
+
+    /**
+     * @return the distinct values of this column, indexed by their code
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(Arrays.asList(dictionary));
+    }
+
+    /**
+     * Tests every distinct value only once and then matches the codes of the rows.
+     */
+    @Override
+    public BitSet scan(Predicate<Object> predicate) {
+        boolean[] matches = new boolean[dictionary.length];
+        for (int i = 0; i < dictionary.length; i++) {
+            matches[i] = predicate.test(dictionary[i]);
+        }
+        BitSet result = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            int code = codes[i];
+            if ((code >= 0) && matches[code]) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    Object getNonNullObject(int row) {
+        return dictionary[codes[row]];
+    }
+
+    @Override
+    ColumnStatistics computeStatistics() {
+        // values are only added to the dictionary if they occur in a row
+        String min = null;
+        String max = null;
+        for (String val : dictionary) {
+            if ((null == min) || (min.compareTo(val) > 0)) {
+                min = val;
+            }
+            if ((null == max) || (max.compareTo(val) < 0)) {
+                max = val;
+            }
+        }
+        return new ColumnStatistics(size, nulls.cardinality(), min, max, Double.NaN, dictionary.length);
+    }
+}
@@ -0,0 +1,76 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.DoublePredicate;
+
+/**
+ * Column of a `number` field with the values held in a `double[]`. Values with more precision than a
+ * double can hold are rounded, use {@link io.frictionlessdata.tableschema.Table#read()} if the exact
+ * BigDecimal values are needed.
+ */
+public final class DoubleColumn extends Column {
+    private final double[] values;
+
+    DoubleColumn(Field<?> field, int size, BitSet nulls, double[] values) {
+        super(field, size, nulls);
+        this.values = values;
+    }
+
+    /**
+     * @param row the row index
+     * @return the value in row `row`, or 0 if it is null
+     */
+    public double getDouble(int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    /**
+     * Returns the indices of all rows with a non-null value that matches `predicate`.
+     * @param predicate the predicate to test the values against
+     * @return a BitSet with the matching row indices set
+     */
+    public BitSet scanDouble(DoublePredicate predicate) {
+        BitSet result = new BitSet(size);
+        for (int i = nulls.nextClearBit(0); i < size; i = nulls.nextClearBit(i + 1)) {
+            if (predicate.test(values[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value as a Double
+     */
+    @Override
+    Object getNonNullObject(int row) {
+        return values[row];
+    }
+
+    @Override
+    ColumnStatistics computeStatistics() {
+        double[] sorted = new double[size - nulls.cardinality()];
+        double sum = 0;
+        int count = 0;
+        for (int i = nulls.nextClearBit(0); i < size; i = nulls.nextClearBit(i + 1)) {
+            sorted[count++] = values[i];
+            sum += values[i];
+        }
+        if (count == 0) {
+            return new ColumnStatistics(size, size, null, null, 0, 0);
+        }
+        // sorts NaN last, like Double.compare()
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (Double.compare(sorted[i], sorted[i - 1]) != 0) {
+                distinct++;
+            }
+        }
+        return new ColumnStatistics(size, size - count, sorted[0], sorted[count - 1], sum, distinct);
+    }
+}
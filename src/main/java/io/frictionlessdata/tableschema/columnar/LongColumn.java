@@ -0,0 +1,78 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.LongPredicate;
+
+/**
+ * Column of an `integer` field with the values held in a `long[]`. Columns with values out of the range
+ * of a long are held in an {@link ObjectColumn} instead.
+ */
+public final class LongColumn extends Column {
+    private final long[] values;
+
+    LongColumn(Field<?> field, int size, BitSet nulls, long[] values) {
+        super(field, size, nulls);
+        this.values = values;
+    }
+
+    /**
+     * @param row the row index
+     * @return the value in row `row`, or 0 if it is null
+     */
+    public long getLong(int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    /**
+     * Returns the indices of all rows with a non-null value that matches `predicate`.
+     * @param predicate the predicate to test the values against
+     * @return a BitSet with the matching row indices set
+     */
+    public BitSet scanLong(LongPredicate predicate) {
+        BitSet result = new BitSet(size);
+        for (int i = nulls.nextClearBit(0); i < size; i = nulls.nextClearBit(i + 1)) {
+            if (predicate.test(values[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value as a BigInteger, the type {@link io.frictionlessdata.tableschema.field.IntegerField}
+     * casts to.
+     */
+    @Override
+    Object getNonNullObject(int row) {
+        return BigInteger.valueOf(values[row]);
+    }
+
+    @Override
+    ColumnStatistics computeStatistics() {
+        long[] sorted = new long[size - nulls.cardinality()];
+        double sum = 0;
+        int count = 0;
+        for (int i = nulls.nextClearBit(0); i < size; i = nulls.nextClearBit(i + 1)) {
+            sorted[count++] = values[i];
+            sum += values[i];
+        }
+        if (count == 0) {
+            return new ColumnStatistics(size, size, null, null, 0, 0);
+        }
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        // min and max are BigIntegers like the values of the column and of the statistics of an ObjectColumn
+        return new ColumnStatistics(size, size - count, BigInteger.valueOf(sorted[0]),
+                BigInteger.valueOf(sorted[count - 1]), sum, distinct);
+    }
+}
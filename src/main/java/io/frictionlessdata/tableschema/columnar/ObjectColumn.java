@@ -0,0 +1,23 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.BitSet;
+
+/**
+ * Column holding the values as the objects {@link Field#castValue(String)} returns, used for all
+ * field types without a specialized representation.
+ */
+public final class ObjectColumn extends Column {
+    private final Object[] values;
+
+    ObjectColumn(Field<?> field, int size, BitSet nulls, Object[] values) {
+        super(field, size, nulls);
+        this.values = values;
+    }
+
+    @Override
+    Object getNonNullObject(int row) {
+        return values[row];
+    }
+}
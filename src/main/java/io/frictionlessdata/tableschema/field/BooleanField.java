@@ -65,6 +65,21 @@ public class BooleanField extends Field<Boolean> {
         }
     }
 
+    /**
+     * Cast a value to a primitive boolean.
+     * @param value the value string to cast, must not be empty
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` is not in the true or false values
+     * @throws ConstraintsException if constraints were violated
+     */
+    public boolean castBoolean(String value) throws InvalidCastException, ConstraintsException {
+        Boolean bool = castValue(value);
+        if (null == bool) {
+            throw new InvalidCastException("Field '" + getName() + "' value is empty");
+        }
+        return bool;
+    }
+
     @Override
     public String formatValueAsString(Boolean value) throws InvalidCastException, ConstraintsException {
         if (null == value)
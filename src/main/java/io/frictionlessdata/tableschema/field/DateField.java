@@ -15,6 +15,13 @@ import java.util.regex.Pattern;
 public class DateField extends Field<LocalDate> {
     // ISO8601 format yyyy-MM-dd
     private static final String REGEX_DATE = "([0-9]{4})-(1[0-2]|0[1-9])-(3[0-1]|0[1-9]|[1-2][0-9])";
+    private static final Pattern PATTERN_DATE = Pattern.compile(REGEX_DATE);
+    private static final DateTimeFormatter FORMATTER_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /**
+     * The strptime `format` translated into a DateTimeFormatter, compiled when the format is set
+     */
+    private DateTimeFormatter formatter;
 
     DateField() {
         super();
@@ -33,12 +40,10 @@ public class DateField extends Field<LocalDate> {
     public LocalDate parseValue(String value, String format, Map<String, Object> options)
             throws TypeInferringException {
 
-        Pattern pattern = Pattern.compile(REGEX_DATE);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_DATE.matcher(value);
 
         if (matcher.matches() && ((null == format) || format.equals("default"))) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            TemporalAccessor dt = formatter.parse(value);
+            TemporalAccessor dt = FORMATTER_DATE.parse(value);
 
             return LocalDate.from(dt);
         } else {
@@ -51,10 +56,8 @@ public class DateField extends Field<LocalDate> {
                     by Python / C standard strptime using <PATTERN>). Example for "format": "%d/%m/%y" which
                     would correspond to dates like: 30/11/14
                  */
-                String regex = parseDateFormat(format);
                 try {
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(regex);
-                    return LocalDate.from(formatter.parse(value));
+                    return LocalDate.from(getFormatter(format).parse(value));
                 } catch (Exception ex) {
                     throw new TypeInferringException("Invalid date format: " + format);
                 }
@@ -71,8 +74,7 @@ public class DateField extends Field<LocalDate> {
         if ((null == format) || format.equals("default")) {
             return DateTimeFormatter.ISO_DATE.format(value);
         }
-        String translatedFormat = parseDateFormat(format);
-        return value.format(DateTimeFormatter.ofPattern(translatedFormat));
+        return value.format(getFormatter(format));
     }
 
     @Override
@@ -82,8 +84,7 @@ public class DateField extends Field<LocalDate> {
         if ((null == format) || format.equals("default")) {
             return DateTimeFormatter.ISO_DATE.format(value);
         }
-        String translatedFormat = parseDateFormat(format);
-        return value.format(DateTimeFormatter.ofPattern(translatedFormat));
+        return value.format(getFormatter(format));
     }
 
     @Override
@@ -105,13 +106,27 @@ public class DateField extends Field<LocalDate> {
         return null;
     }
 
-    private String parseDateFormat(String cString) {
-        String retVal = cString;
-        retVal = retVal.replaceAll("%d", "dd");
-        retVal = retVal.replaceAll("%m", "MM");
-        retVal = retVal.replaceAll("%y", "yy");
-        retVal = retVal.replaceAll("%Y", "yyyy");
+    @Override
+    void compileFormat() {
+        formatter = null;
+        if ((null != format) && (!format.equals(Field.FIELD_FORMAT_DEFAULT))
+                && (!format.equals(Field.FIELD_FORMAT_ANY))) {
+            try {
+                formatter = FormatCompiler.compileStrptimeFormat(format);
+            } catch (IllegalArgumentException ex) {
+                // invalid formats are reported when values are parsed
+            }
+        }
+    }
 
-        return retVal;
+    /**
+     * Returns the DateTimeFormatter compiled for the Field's format or, if a different format
+     * is requested, the one from the shared cache.
+     */
+    private DateTimeFormatter getFormatter(String format) {
+        if ((null != formatter) && format.equals(this.format)) {
+            return formatter;
+        }
+        return FormatCompiler.compileStrptimeFormat(format);
     }
 }
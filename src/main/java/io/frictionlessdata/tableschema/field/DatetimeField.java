@@ -17,6 +17,7 @@ public class DatetimeField extends Field<ZonedDateTime> {
     // ISO 8601 format of yyyy-MM-dd'T'HH:mm:ss.SSSZ in UTC time
     private static final String REGEX_DATETIME
             = "(-?(?:[1-9][0-9]*)?[0-9]{4})-(1[0-2]|0[1-9])-(3[01]|0[1-9]|[12][0-9])T(2[0-3]|[01][0-9]):([0-5][0-9]):([0-5][0-9])(\\.[0-9]+)?(Z|[+-](?:2[0-3]|[01][0-9]):[0-5][0-9])?";
+    private static final Pattern PATTERN_DATETIME = Pattern.compile(REGEX_DATETIME);
 
     DatetimeField() {
         super();
@@ -35,8 +36,7 @@ public class DatetimeField extends Field<ZonedDateTime> {
     public ZonedDateTime parseValue(String value, String format, Map<String, Object> options)
             throws TypeInferringException {
 
-        Pattern pattern = Pattern.compile(REGEX_DATETIME);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_DATETIME.matcher(value);
 
         if(matcher.matches()){
             TemporalAccessor dt = FORMATTER.parse(value);
@@ -0,0 +1,203 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parses the common shapes of integer and decimal values in a single pass over the characters,
+ * without creating intermediate Strings or running regular expressions. Digits are accumulated in a `long`,
+ * the result is created from that via {@link BigInteger#valueOf(long)} or {@link BigDecimal#valueOf(long, int)}.
+ *
+ * Values the fast path can't handle (exponents, NaN/INF, non-ASCII digits, more than 17 significant digits,
+ * multi-character decimal or group separators) make the methods return `null` (or a documented marker value
+ * for the primitive variants), the caller then falls back to the full parsing logic.
+ */
+final class FastNumberParser {
+    /**
+     * Returned by {@link #parseLong(String)} if the fast path can't handle the value. It is never
+     * a parse result, as values are accumulated as positive numbers up to Long.MAX_VALUE
+     */
+    static final long NOT_PARSED = Long.MIN_VALUE;
+
+    // no overflow possible when accumulating up to 18 decimal digits
+    private static final long MAX_BEFORE_MULTIPLY = (Long.MAX_VALUE - 9) / 10;
+
+    // decimal values are accumulated up to this magnitude, so the unscaled value and the
+    // scale (plus one) can be packed into one long: (unscaled << 5) | (scale + 1)
+    private static final long MAX_UNSCALED = 1L << 58;
+    private static final int SCALE_BITS = 5;
+    private static final long SCALE_MASK = (1L << SCALE_BITS) - 1;
+
+    // doubles up to 2^53 and powers of ten up to 10^22 are exact, so dividing them is correctly rounded
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private FastNumberParser() {
+        // static helpers only
+    }
+
+    /**
+     * Parse an integer value, optionally signed and surrounded by whitespace.
+     * @param value the value to parse
+     * @return the parsed value or `null` if the fast path can't handle the value
+     */
+    static BigInteger parseInteger(String value) {
+        long parsed = parseLong(value);
+        return (parsed == NOT_PARSED) ? null : BigInteger.valueOf(parsed);
+    }
+
+    /**
+     * Parse an integer value, optionally signed and surrounded by whitespace.
+     * @param value the value to parse
+     * @return the parsed value or {@link #NOT_PARSED} if the fast path can't handle the value
+     */
+    static long parseLong(String value) {
+        if (null == value) {
+            return NOT_PARSED;
+        }
+        int start = 0;
+        int end = value.length();
+        while ((start < end) && (value.charAt(start) <= ' ')) {
+            start++;
+        }
+        while ((end > start) && (value.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        if (start == end) {
+            return NOT_PARSED;
+        }
+        boolean negative = false;
+        char c = value.charAt(start);
+        if ((c == '-') || (c == '+')) {
+            negative = (c == '-');
+            start++;
+        }
+        if (start == end) {
+            return NOT_PARSED;
+        }
+        long unscaled = 0;
+        for (int i = start; i < end; i++) {
+            c = value.charAt(i);
+            if ((c < '0') || (c > '9') || (unscaled > MAX_BEFORE_MULTIPLY)) {
+                return NOT_PARSED;
+            }
+            unscaled = (unscaled * 10) + (c - '0');
+        }
+        return negative ? -unscaled : unscaled;
+    }
+
+    /**
+     * Parse an integer or decimal value the way {@link NumberField} does: surrounding whitespace is ignored, the
+     * group character is skipped, and both the decimal character and '.' mark the decimal point. If `bareNumber`
+     * is false, all leading and trailing non-digit characters (e.g. currency symbols) are ignored.
+     * @param value the value to parse
+     * @param decimalChar the decimal character, 0 if not set
+     * @param groupChar the group character, 0 if not set
+     * @param bareNumber if false, leading and trailing non-digit characters are ignored
+     * @return a BigInteger for values without decimal point, a BigDecimal for values with one, or `null` if the
+     *          fast path can't handle the value
+     */
+    static Number parseNumber(String value, char decimalChar, char groupChar, boolean bareNumber) {
+        long packed = scanNumber(value, decimalChar, groupChar, bareNumber);
+        if (packed == NOT_PARSED) {
+            return null;
+        }
+        long unscaled = packed >> SCALE_BITS;
+        int scale = (int) (packed & SCALE_MASK) - 1;
+        if (scale < 0) {
+            return BigInteger.valueOf(unscaled);
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Parse a value like {@link #parseNumber(String, char, char, boolean)} does, but into a double. Only
+     * values that can be converted exactly or correctly rounded are handled.
+     * @return the parsed value or NaN if the fast path can't handle the value
+     */
+    static double parseDouble(String value, char decimalChar, char groupChar, boolean bareNumber) {
+        long packed = scanNumber(value, decimalChar, groupChar, bareNumber);
+        if (packed == NOT_PARSED) {
+            return Double.NaN;
+        }
+        long unscaled = packed >> SCALE_BITS;
+        int scale = (int) (packed & SCALE_MASK) - 1;
+        if (scale <= 0) {
+            return (double) unscaled;
+        }
+        if ((Math.abs(unscaled) > MAX_EXACT_DOUBLE) || (scale >= POWERS_OF_TEN.length)) {
+            return Double.NaN;
+        }
+        return ((double) unscaled) / POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Scan a number value and return the unscaled value and scale packed into one long,
+     * or {@link #NOT_PARSED}
+     */
+    private static long scanNumber(String value, char decimalChar, char groupChar, boolean bareNumber) {
+        if (null == value) {
+            return NOT_PARSED;
+        }
+        int start = 0;
+        int end = value.length();
+        while ((start < end) && (value.charAt(start) <= ' ')) {
+            start++;
+        }
+        while ((end > start) && (value.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        if (!bareNumber) {
+            while ((start < end) && !isDigit(value.charAt(start))) {
+                start++;
+            }
+            while ((end > start) && !isDigit(value.charAt(end - 1))) {
+                end--;
+            }
+        }
+        if (start == end) {
+            return NOT_PARSED;
+        }
+        boolean negative = false;
+        char c = value.charAt(start);
+        if ((c == '-') || (c == '+')) {
+            negative = (c == '-');
+            start++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        // -1 as long as no decimal point was found
+        int scale = -1;
+        for (int i = start; i < end; i++) {
+            c = value.charAt(i);
+            if (isDigit(c)) {
+                unscaled = (unscaled * 10) + (c - '0');
+                if (unscaled >= MAX_UNSCALED) {
+                    return NOT_PARSED;
+                }
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if ((c == groupChar) && (c != 0)) {
+                // skip
+            } else if (((c == decimalChar) || (c == '.')) && (scale < 0)) {
+                scale = 0;
+            } else {
+                return NOT_PARSED;
+            }
+        }
+        if ((digits == 0) || (scale + 1 > SCALE_MASK)) {
+            return NOT_PARSED;
+        }
+        long signed = negative ? -unscaled : unscaled;
+        return (signed << SCALE_BITS) | (scale + 1);
+    }
+
+    private static boolean isDigit(char c) {
+        return (c >= '0') && (c <= '9');
+    }
+}
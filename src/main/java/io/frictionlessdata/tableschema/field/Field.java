@@ -15,6 +15,7 @@ import java.time.*;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Definition of a field in a data table. Doesn't hold values
@@ -156,6 +157,12 @@ public abstract class Field<T> {
 
     Map<String, Object> constraints = null;
 
+    /**
+     * The `pattern` constraint compiled when the constraints are set
+     */
+    @JsonIgnore
+    private Pattern constraintPattern = null;
+
     @JsonIgnore
     Map<String, Object> options = new HashMap<>();
 
@@ -198,6 +205,31 @@ public abstract class Field<T> {
         this.constraints = constraints;
         this.options = options;
         this.example = example;
+        compileFormat();
+        compileConstraints();
+    }
+
+    /**
+     * Hook for Field types that translate their `format` into a parser, e.g. a DateTimeFormatter.
+     * It is called whenever the format is set, so the format is compiled once and not for every value.
+     */
+    void compileFormat() {
+        // most types don't need to compile their format
+    }
+
+    /**
+     * Compile the `pattern` constraint once instead of for every value check. Invalid regular
+     * expressions are reported when values are checked.
+     */
+    private void compileConstraints() {
+        constraintPattern = null;
+        if ((null != constraints) && (constraints.get(CONSTRAINT_KEY_PATTERN) instanceof String)) {
+            try {
+                constraintPattern = FormatCompiler.compilePattern((String)constraints.get(CONSTRAINT_KEY_PATTERN));
+            } catch (PatternSyntaxException ex) {
+                // will throw again when checking values
+            }
+        }
     }
 
     public static Field<?> fromJson (String json) {
@@ -270,6 +302,19 @@ public abstract class Field<T> {
         return castValue(value, true, options);
     }
 
+    /**
+     * Use the Field definition to cast a value into the Field type.
+     * @param value the value string to cast
+     * @param enforceConstraints if false, constraints are not checked, use
+     *                           {@link #checkConstraintViolations(Object)} to check them separately
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to the destination type
+     * @throws ConstraintsException thrown if `enforceConstraints` was set to `true`and constraints were violated
+     */
+    public T castValue(String value, boolean enforceConstraints) throws InvalidCastException, ConstraintsException{
+        return castValue(value, enforceConstraints, options);
+    }
+
     abstract T checkMinimumConstraintViolated(T value);
 
     /**
@@ -289,11 +334,7 @@ public abstract class Field<T> {
         }
 
         // All values for that field MUST be unique within the data file in which it is found.
-        // TODO: Implement
-        /*
-        if(this.constraints.containsKey(CONSTRAINT_KEY_UNIQUE)){
-    
-        }*/
+        // This can't be decided for a single value, it is checked across rows by the TableValidator.
 
         // An integer that specifies the minimum length of a value.
         if(this.constraints.containsKey(CONSTRAINT_KEY_MIN_LENGTH)){
@@ -400,7 +441,10 @@ public abstract class Field<T> {
 
             // Constraint only applies to a String value.
             if(value instanceof String){
-                Pattern pattern = Pattern.compile(regexPatternString);
+                // the constraints map might have been changed after compiling the pattern
+                Pattern pattern = ((null != constraintPattern) && constraintPattern.pattern().equals(regexPatternString))
+                        ? constraintPattern
+                        : FormatCompiler.compilePattern(regexPatternString);
                 Matcher matcher = pattern.matcher((String)value);
 
                 if(!matcher.matches()){
@@ -563,6 +607,7 @@ public abstract class Field<T> {
 
     public void setFormat(String format) {
         this.format = format;
+        compileFormat();
     }
 
     public String getTitle(){
@@ -586,8 +631,9 @@ public abstract class Field<T> {
     }
 
     public void setConstraints(Map<String, Object> constraints) {
-    this.constraints = constraints;
-  }
+        this.constraints = constraints;
+        compileConstraints();
+    }
 
     public URI getRdfType() {
         return rdfType;
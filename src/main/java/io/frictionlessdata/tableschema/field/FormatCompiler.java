@@ -0,0 +1,69 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the `format` and `pattern` definitions of Fields into {@link Pattern} and {@link DateTimeFormatter}
+ * instances and caches them, so casting values does not compile the same definition over and over.
+ *
+ * Both classes are immutable and thread-safe, so the compiled instances are shared between Fields and threads.
+ */
+final class FormatCompiler {
+    // stop caching if callers produce lots of distinct definitions
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+    private static final Map<String, DateTimeFormatter> strptimeFormatters = new ConcurrentHashMap<>();
+
+    private FormatCompiler() {
+        // static helpers only
+    }
+
+    /**
+     * Compile a regular expression or return the cached Pattern.
+     * @param regex the regular expression
+     * @return the compiled Pattern
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    static Pattern compilePattern(String regex) {
+        Pattern pattern = patterns.get(regex);
+        if (null == pattern) {
+            pattern = Pattern.compile(regex);
+            if (patterns.size() < MAX_CACHE_SIZE) {
+                patterns.put(regex, pattern);
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Translate a Python/C strptime format like "%d/%m/%y" into a DateTimeFormatter or return
+     * the cached DateTimeFormatter.
+     * @param format the strptime format
+     * @return the DateTimeFormatter for the format
+     * @throws IllegalArgumentException if the translated format is invalid
+     */
+    static DateTimeFormatter compileStrptimeFormat(String format) {
+        DateTimeFormatter formatter = strptimeFormatters.get(format);
+        if (null == formatter) {
+            formatter = DateTimeFormatter.ofPattern(translateStrptimeFormat(format));
+            if (strptimeFormatters.size() < MAX_CACHE_SIZE) {
+                strptimeFormatters.put(format, formatter);
+            }
+        }
+        return formatter;
+    }
+
+    static String translateStrptimeFormat(String cString) {
+        String retVal = cString;
+        retVal = retVal.replaceAll("%d", "dd");
+        retVal = retVal.replaceAll("%m", "MM");
+        retVal = retVal.replaceAll("%y", "yy");
+        retVal = retVal.replaceAll("%Y", "yyyy");
+
+        return retVal;
+    }
+}
@@ -29,6 +29,10 @@ public class IntegerField extends Field<BigInteger> {
 
     @Override
     public BigInteger parseValue(String value, String format, Map<String, Object> options) throws TypeInferringException {
+        BigInteger fastValue = FastNumberParser.parseInteger(value);
+        if (null != fastValue) {
+            return fastValue;
+        }
         try {
             return new BigInteger(value.trim());
         } catch (Exception ex) {
@@ -36,6 +40,29 @@ public class IntegerField extends Field<BigInteger> {
         }
     }
 
+    /**
+     * Cast a value to a primitive long without creating a BigInteger if possible.
+     * @param value the value string to cast, must not be empty
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to an integer
+     * @throws ConstraintsException if constraints were violated
+     * @throws ArithmeticException if the value is a valid integer, but out of the range of a long
+     */
+    public long castLong(String value) throws InvalidCastException, ConstraintsException {
+        // constraints are checked on the BigInteger values
+        if ((null == constraints) || constraints.isEmpty()) {
+            long parsed = FastNumberParser.parseLong(value);
+            if (parsed != FastNumberParser.NOT_PARSED) {
+                return parsed;
+            }
+        }
+        BigInteger number = castValue(value);
+        if (null == number) {
+            throw new InvalidCastException("Field '" + getName() + "' value is empty");
+        }
+        return number.longValueExact();
+    }
+
     @Override
     public String formatValueAsString(BigInteger value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
         if (null == value)
@@ -28,6 +28,11 @@ public class NumberField extends Field<Number> {
 
     private static final String REGEX_INTEGER = "[+-]?\\d+";
     private static final String REGEX_BARE_NUMBER = "((^\\D*)|(\\D*$))";
+    private static final Pattern PATTERN_INTEGER = Pattern.compile(REGEX_INTEGER);
+    private static final Pattern PATTERN_BARE_NUMBER = Pattern.compile(REGEX_BARE_NUMBER);
+
+    private static final long NO_FAST_PATH = -1;
+    private static final long BARE_NUMBER_FLAG = 1L << 32;
 
     private static final NumberFormat numberFormat = NumberFormat.getInstance(Locale.ENGLISH);
     static {
@@ -50,25 +55,29 @@ public class NumberField extends Field<Number> {
 
     @Override
     public Number parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
+        Number fastValue = parseFast(value, options);
+        if (null != fastValue) {
+            return fastValue;
+        }
         String locValue = value.trim();
         try{
             if(options != null){
-                if(options.containsKey(NUMBER_OPTION_DECIMAL_CHAR)){
-                    locValue = locValue.replace((String)options.get(NUMBER_OPTION_DECIMAL_CHAR), NUMBER_DEFAULT_DECIMAL_CHAR);
-                }
-
+                // remove group chars first, they might be '.' which we need as decimal char
                 if(options.containsKey(NUMBER_OPTION_GROUP_CHAR)){
                     locValue = locValue.replace((String)options.get(NUMBER_OPTION_GROUP_CHAR), NUMBER_DEFAULT_GROUP_CHAR);
                 }
 
+                if(options.containsKey(NUMBER_OPTION_DECIMAL_CHAR)){
+                    locValue = locValue.replace((String)options.get(NUMBER_OPTION_DECIMAL_CHAR), NUMBER_DEFAULT_DECIMAL_CHAR);
+                }
+
                 if(options.containsKey(NUMBER_OPTION_BARE_NUMBER) && !(boolean)options.get(NUMBER_OPTION_BARE_NUMBER)){
-                    locValue = locValue.replaceAll(REGEX_BARE_NUMBER, "");
+                    locValue = PATTERN_BARE_NUMBER.matcher(locValue).replaceAll("");
                 }
             }
 
             // Try to match integer pattern
-            Pattern intPattern = Pattern.compile(REGEX_INTEGER);
-            Matcher integerMatcher = intPattern.matcher(locValue);
+            Matcher integerMatcher = PATTERN_INTEGER.matcher(locValue);
 
             if(integerMatcher.matches()){
                 return new BigInteger(locValue);
@@ -87,6 +96,92 @@ public class NumberField extends Field<Number> {
             throw new TypeInferringException();
         }
     }
+    /**
+     * Cast a value to a primitive double without creating a BigInteger or BigDecimal if possible. Values with
+     * more precision than a double can hold are rounded.
+     * @param value the value string to cast, must not be empty
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to a number
+     * @throws ConstraintsException if constraints were violated
+     */
+    public double castDouble(String value) throws InvalidCastException, ConstraintsException {
+        // constraints are checked on the Number values
+        if ((null == constraints) || constraints.isEmpty()) {
+            long separators = getSeparators(options);
+            if (separators != NO_FAST_PATH) {
+                double parsed = FastNumberParser.parseDouble(value, (char) separators,
+                        (char) (separators >>> 16), (separators & BARE_NUMBER_FLAG) != 0);
+                if (!Double.isNaN(parsed)) {
+                    return parsed;
+                }
+            }
+        }
+        Number number = castValue(value);
+        if (null == number) {
+            throw new InvalidCastException("Field '" + getName() + "' value is empty");
+        }
+        return number.doubleValue();
+    }
+
+    /**
+     * Try the allocation-free parser for the common cases of single-character decimal and group chars.
+     * Returns null if the value or the options need the full parsing logic.
+     */
+    private static Number parseFast(String value, Map<String, Object> options) {
+        long separators = getSeparators(options);
+        if (separators == NO_FAST_PATH) {
+            return null;
+        }
+        return FastNumberParser.parseNumber(value, (char) separators,
+                (char) (separators >>> 16), (separators & BARE_NUMBER_FLAG) != 0);
+    }
+
+    /**
+     * Resolve the decimalChar, groupChar and bareNumber options for the {@link FastNumberParser}. Returns
+     * the decimal char in bits 0-15, the group char in bits 16-31 and the bareNumber flag, or
+     * {@link #NO_FAST_PATH} if the options need the full parsing logic.
+     */
+    private static long getSeparators(Map<String, Object> options) {
+        char decimalChar = 0;
+        char groupChar = 0;
+        boolean bareNumber = true;
+        if (options != null) {
+            if (options.containsKey(NUMBER_OPTION_DECIMAL_CHAR)) {
+                decimalChar = toSeparatorChar(options.get(NUMBER_OPTION_DECIMAL_CHAR));
+                if (decimalChar == 0) {
+                    return NO_FAST_PATH;
+                }
+            }
+            if (options.containsKey(NUMBER_OPTION_GROUP_CHAR)) {
+                Object groupOption = options.get(NUMBER_OPTION_GROUP_CHAR);
+                if (!NUMBER_DEFAULT_GROUP_CHAR.equals(groupOption)) {
+                    groupChar = toSeparatorChar(groupOption);
+                    if ((groupChar == 0) || (groupChar == decimalChar)) {
+                        return NO_FAST_PATH;
+                    }
+                }
+            }
+            if (options.containsKey(NUMBER_OPTION_BARE_NUMBER)) {
+                Object bareOption = options.get(NUMBER_OPTION_BARE_NUMBER);
+                if (!(bareOption instanceof Boolean)) {
+                    return NO_FAST_PATH;
+                }
+                bareNumber = (Boolean) bareOption;
+            }
+        }
+        return decimalChar | ((long) groupChar << 16) | (bareNumber ? BARE_NUMBER_FLAG : 0);
+    }
+
+    private static char toSeparatorChar(Object option) {
+        if ((option instanceof String) && (((String) option).length() == 1)) {
+            char c = ((String) option).charAt(0);
+            if (!Character.isDigit(c)) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
     @Override
     public Object formatValueForJson(Number value) throws InvalidCastException, ConstraintsException {
         return formatValueAsString(value, null, options);
@@ -14,6 +14,7 @@ import java.util.regex.Pattern;
 public class TimeField extends Field<LocalTime> {
     // An ISO8601 time string e.g. HH:mm:ss
     private static final String REGEX_TIME = "(2[0-3]|[01]?[0-9]):?([0-5]?[0-9]):?([0-5]?[0-9])";
+    private static final Pattern PATTERN_TIME = Pattern.compile(REGEX_TIME);
 
     TimeField() {
         super();
@@ -30,8 +31,7 @@ public class TimeField extends Field<LocalTime> {
 
     @Override
     public LocalTime parseValue(String value, String format, Map<String, Object> options) throws TypeInferringException {
-        Pattern pattern = Pattern.compile(REGEX_TIME);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_TIME.matcher(value);
 
         if(matcher.matches()){
             return LocalTime.parse(value);
@@ -13,6 +13,7 @@ import java.util.regex.Pattern;
 public class YearField extends Field<Year> {
     // yyyy
     private static final String REGEX_YEAR = "([0-9]{4})";
+    private static final Pattern PATTERN_YEAR = Pattern.compile(REGEX_YEAR);
 
     YearField() {
         super();
@@ -29,8 +30,7 @@ public class YearField extends Field<Year> {
 
     @Override
     public Year parseValue(String value, String format, Map<String, Object> options) throws TypeInferringException {
-        Pattern pattern = Pattern.compile(REGEX_YEAR);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_YEAR.matcher(value);
 
         if(matcher.matches()){
             return Year.parse(value);
@@ -40,6 +40,36 @@ public class YearField extends Field<Year> {
         }
     }
 
+    /**
+     * Cast a value to a primitive int holding the year without creating a Year instance if possible.
+     * @param value the value string to cast, must not be empty
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to a year
+     * @throws ConstraintsException if constraints were violated
+     */
+    public int castInt(String value) throws InvalidCastException, ConstraintsException {
+        // constraints are checked on the Year values
+        if (((null == constraints) || constraints.isEmpty()) && (null != value) && (value.length() == 4)) {
+            int year = 0;
+            for (int i = 0; i < 4; i++) {
+                char c = value.charAt(i);
+                if ((c < '0') || (c > '9')) {
+                    year = -1;
+                    break;
+                }
+                year = (year * 10) + (c - '0');
+            }
+            if (year >= 0) {
+                return year;
+            }
+        }
+        Year year = castValue(value);
+        if (null == year) {
+            throw new InvalidCastException("Field '" + getName() + "' value is empty");
+        }
+        return year.getValue();
+    }
+
     @Override
     public Object formatValueForJson(Year value) throws InvalidCastException, ConstraintsException {
         if (null == value)
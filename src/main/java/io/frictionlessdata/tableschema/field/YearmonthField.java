@@ -15,6 +15,8 @@ import java.util.regex.Pattern;
 public class YearmonthField extends Field<YearMonth> {
     // yyyy-MM
     private static final String REGEX_YEARMONTH = "([0-9]{4})-(1[0-2]|0[1-9])";
+    private static final Pattern PATTERN_YEARMONTH = Pattern.compile(REGEX_YEARMONTH);
+    private static final DateTimeFormatter FORMATTER_YEARMONTH = DateTimeFormatter.ofPattern("yyyy-MM");
 
     YearmonthField() {
         super();
@@ -32,12 +34,10 @@ public class YearmonthField extends Field<YearMonth> {
     @Override
     public YearMonth parseValue(String value, String format, Map<String, Object> options)
             throws TypeInferringException {
-        Pattern pattern = Pattern.compile(REGEX_YEARMONTH);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_YEARMONTH.matcher(value);
 
         if(matcher.matches()){
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            TemporalAccessor dt = formatter.parse(value);
+            TemporalAccessor dt = FORMATTER_YEARMONTH.parse(value);
 
             return YearMonth.from(dt);
         }else{
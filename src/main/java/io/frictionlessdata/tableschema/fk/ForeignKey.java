@@ -4,8 +4,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.frictionlessdata.tableschema.Table;
 import io.frictionlessdata.tableschema.exception.ForeignKeyException;
+import io.frictionlessdata.tableschema.exception.TableValidationException;
 import io.frictionlessdata.tableschema.exception.ValidationException;
 import io.frictionlessdata.tableschema.util.JsonUtil;
+import io.frictionlessdata.tableschema.validation.ReferenceIndex;
 
 import java.util.*;
 
@@ -116,6 +118,10 @@ public class ForeignKey {
     /**
      * validate the foreign key against the table. We only can validate self-referencing FKs, as we
      * do not have access to the tables in different resources of a  datapackages in the tableschema library.
+     *
+     * The keys of the referenced fields are collected in a {@link ReferenceIndex} in one pass over the table,
+     * then the key of every row is looked up in a second pass. Only the key fields are cast; rows with a missing
+     * key part or one that can't be cast are not checked.
      * @param table the table to validate against
      * @throws ForeignKeyException if the foreign key is violated
      */
@@ -124,32 +130,35 @@ public class ForeignKey {
 
         // self-referencing FK
         if (reference.getResource().equals("")) {
-            List<String> fieldNames = new ArrayList<>();
-            List<String> foreignFieldNames = new ArrayList<>();
-            List<String> lFields = getFieldNames();
-            for (int i = 0; i < lFields.size(); i++) {
-                fieldNames.add(lFields.get(i));
-                foreignFieldNames.add(reference.getFieldNames().get(i));
-            }
-
-            Iterator<Object> iterator = table.iterator(true, false, false, false);
-            while (iterator.hasNext()) {
-                Map<String, Object> next = (Map<String, Object>)iterator.next();
-                for (int i = 0; i < fieldNames.size(); i++){
-                    if (!next.get(fieldNames.get(i)).equals(next.get(foreignFieldNames.get(i)))) {
-                        throw new ForeignKeyException("Foreign key ["+fieldNames.get(i)+ "-> "
-                                +foreignFieldNames.get(i)+"] violation : expected: "
-                                +next.get(fieldNames.get(i)) + " found: "
-                                +next.get(foreignFieldNames.get(i)));
-                    }
-                }
-            }
+            validate(table, table);
          } else {
             throw new UnsupportedOperationException("Foreign key references across package resources are not supported");
         }
 
     }
 
+    /**
+     * validate the foreign key of `table` against the rows of `referencedTable`, e.g. a fact table against a
+     * dimension table. Runs in time linear in the number of rows of both tables, memory is proportional to the
+     * number of keys in the referenced table.
+     * @param table the table holding the foreign key fields
+     * @param referencedTable the table holding the referenced fields
+     * @throws ForeignKeyException if the foreign key is violated
+     * @throws TableValidationException if a table has no Schema, or a field is not in the Schema of its table
+     */
+    public final void validate(Table table, Table referencedTable) throws ForeignKeyException{
+        validate();
+        List<String> fieldNames = getFieldNames();
+        List<String> foreignFieldNames = reference.getFieldNames();
+
+        try (ReferenceIndex index = ReferenceIndex.build(referencedTable, foreignFieldNames)) {
+            index.probe(table, fieldNames, (rowNumber, key) -> {
+                throw new ForeignKeyException("Foreign key " + fieldNames + " -> " + foreignFieldNames
+                        + " violation in row " + rowNumber + ": " + Arrays.toString(key) + " not found");
+            });
+        }
+    }
+
     /**
      * Get the JSON representation of the ForeignKey.
      * @return String-serialized JSON Object containing the properties of this foreign key
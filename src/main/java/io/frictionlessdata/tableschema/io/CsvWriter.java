@@ -0,0 +1,207 @@
+package io.frictionlessdata.tableschema.io;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.QuoteMode;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes CSV records like a {@link org.apache.commons.csv.CSVPrinter} does, but copies the cells straight into a
+ * reusable char buffer that is handed to the underlying Writer in large blocks. A cell is only scanned once to
+ * decide whether it needs quoting, and only cells that contain the quote character are escaped.
+ *
+ * The output is the same as the one of a CSVPrinter with the same {@link CSVFormat}. Only formats with a
+ * single-character delimiter, a quote character, minimal quoting and no escape character are supported,
+ * which includes the default format of the data sources and {@link CSVFormat#RFC4180}. Check with
+ * {@link #supports(CSVFormat)} and use a CSVPrinter for other formats.
+ */
+public class CsvWriter implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char LF = '\n';
+    private static final char CR = '\r';
+    private static final char COMMENT = '#';
+    private static final char SP = ' ';
+
+    private final Writer out;
+    private final char delimiter;
+    private final char quote;
+    private final String recordSeparator;
+    private final String nullString;
+    private final boolean trim;
+    private final boolean trailingDelimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position = 0;
+    private boolean newRecord = true;
+
+    /**
+     * Create a writer and write the header record of `format` if it has one and does not skip it.
+     * @param out the Writer to write to. Closed when this writer is closed.
+     * @param format the CSV format, see {@link #supports(CSVFormat)}
+     * @throws IOException if writing the header record fails
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public CsvWriter(Writer out, CSVFormat format) throws IOException {
+        if (!supports(format)) {
+            throw new IllegalArgumentException("CSV format not supported: " + format);
+        }
+        this.out = out;
+        this.delimiter = format.getDelimiterString().charAt(0);
+        this.quote = format.getQuoteCharacter();
+        this.recordSeparator = format.getRecordSeparator();
+        this.nullString = format.getNullString();
+        this.trim = format.getTrim();
+        this.trailingDelimiter = format.getTrailingDelimiter();
+        if ((null != format.getHeader()) && !format.getSkipHeaderRecord()) {
+            printRecord(format.getHeader());
+        }
+    }
+
+    /**
+     * Returns whether the writer produces the same output as a CSVPrinter for `format`
+     * @param format the CSV format
+     * @return true if the format is supported
+     */
+    public static boolean supports(CSVFormat format) {
+        return (format.getDelimiterString().length() == 1)
+                && format.isQuoteCharacterSet()
+                && !format.isEscapeCharacterSet()
+                && ((null == format.getQuoteMode()) || (format.getQuoteMode() == QuoteMode.MINIMAL))
+                && ((null == format.getHeaderComments()) || !format.isCommentMarkerSet());
+    }
+
+    /**
+     * Write one cell of the current record
+     * @param value the value to write, `null` is written as the null String of the format
+     * @throws IOException if writing fails
+     */
+    public void print(String value) throws IOException {
+        if (!newRecord) {
+            append(delimiter);
+        }
+        if (null == value) {
+            // like the CSVPrinter, the null String is never quoted
+            if (null != nullString) {
+                append(trim ? nullString.trim() : nullString);
+            }
+        } else {
+            printQuotedIfNeeded(trim ? value.trim() : value);
+        }
+        newRecord = false;
+    }
+
+    /**
+     * End the current record
+     * @throws IOException if writing fails
+     */
+    public void println() throws IOException {
+        if (trailingDelimiter) {
+            append(delimiter);
+        }
+        if (null != recordSeparator) {
+            append(recordSeparator);
+        }
+        newRecord = true;
+    }
+
+    /**
+     * Write a complete record
+     * @param values the cells of the record
+     * @throws IOException if writing fails
+     */
+    public void printRecord(String... values) throws IOException {
+        for (String value : values) {
+            print(value);
+        }
+        println();
+    }
+
+    /**
+     * Quote the value with the rules of {@link QuoteMode#MINIMAL}: empty values at the start of a record,
+     * values starting with a character up to `#` or ending with a character up to a space, and values containing
+     * line breaks, the quote character or the delimiter.
+     */
+    private void printQuotedIfNeeded(String value) throws IOException {
+        int length = value.length();
+        boolean quoted = false;
+        int pos = 0;
+        if (length == 0) {
+            // an empty first cell must be quoted, otherwise the record would be an empty line
+            quoted = newRecord;
+        } else if (value.charAt(0) <= COMMENT) {
+            quoted = true;
+        } else {
+            for (; pos < length; pos++) {
+                char c = value.charAt(pos);
+                if ((c == LF) || (c == CR) || (c == quote) || (c == delimiter)) {
+                    quoted = true;
+                    break;
+                }
+            }
+            if (!quoted) {
+                quoted = value.charAt(length - 1) <= SP;
+                pos = 0;
+            }
+        }
+        if (!quoted) {
+            append(value, 0, length);
+            return;
+        }
+        append(quote);
+        int start = 0;
+        for (; pos < length; pos++) {
+            if (value.charAt(pos) == quote) {
+                // double the quote character
+                append(value, start, pos + 1);
+                start = pos;
+            }
+        }
+        append(value, start, length);
+        append(quote);
+    }
+
+    private void append(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void append(String value) throws IOException {
+        append(value, 0, value.length());
+    }
+
+    private void append(String value, int start, int end) throws IOException {
+        int length = end - start;
+        if (length > buffer.length - position) {
+            flushBuffer();
+            if (length > buffer.length) {
+                out.write(value, start, length);
+                return;
+            }
+        }
+        value.getChars(start, end, buffer, position);
+        position += length;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        out.close();
+    }
+}
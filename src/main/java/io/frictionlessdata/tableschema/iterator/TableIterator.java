@@ -1,12 +1,18 @@
 package io.frictionlessdata.tableschema.iterator;
 
 import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableIOException;
 import io.frictionlessdata.tableschema.field.Field;
 import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.tabledatasource.MappedCsvTableDataSource;
+import io.frictionlessdata.tableschema.tabledatasource.TableDataSource;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,7 +20,7 @@ import java.util.Map;
  * of the `keyed`, `extended`, `cast`, `relations` flags.
  *
  */
-public class TableIterator<T> implements Iterator<T> {
+public class TableIterator<T> implements Iterator<T>, AutoCloseable {
     /**
      * The table's headers
      */
@@ -60,6 +66,16 @@ public class TableIterator<T> implements Iterator<T> {
      */
     int index = 0;
 
+    /**
+     * The Schema fields, resolved on the first row
+     */
+    Field<?>[] fields = null;
+
+    /**
+     * For each Schema field, the index of the data column to cast or -1 if there is none
+     */
+    int[] columnIndices = null;
+
 
     TableIterator() {}
 
@@ -81,11 +97,32 @@ public class TableIterator<T> implements Iterator<T> {
         this.relations = relations;
     }
 
+    /**
+     * Create an Iterator that casts the rows returned by `rows` instead of reading all data
+     * of the Table, e.g. to work on one chunk of the data.
+     * @param table the Table providing Schema and headers
+     * @param rows the rows to iterate over
+     * @param cast if true, cast values to Java objects
+     */
+    public TableIterator(Table table, Iterator<String[]> rows, boolean cast) {
+        this.mapping = table.getSchemaHeaderMapping();
+        this.headers = table.getHeaders();
+        this.schema = table.getSchema();
+        this.wrappedIterator = rows;
+        this.cast = cast;
+    }
+
     void init(Table table) {
         this.mapping = table.getSchemaHeaderMapping();
         this.headers = table.getHeaders();
         this.schema = table.getSchema();
-        this.wrappedIterator = table.getTableDataSource().iterator();
+        TableDataSource ds = table.getTableDataSource();
+        if ((null != this.schema) && (null != this.mapping) && (ds instanceof MappedCsvTableDataSource)) {
+            // only the cells that get cast need to be turned into Strings
+            this.wrappedIterator = ((MappedCsvTableDataSource) ds).iterator(this.mapping.values());
+        } else {
+            this.wrappedIterator = ds.iterator();
+        }
     }
 
 
@@ -102,38 +139,24 @@ public class TableIterator<T> implements Iterator<T> {
     @Override
     public T next() {
         String[] row = this.wrappedIterator.next();
-        String rawVal = null;
-        int rowLength = row.length;
-        if (null != this.schema) {
-            rowLength = Math.max(row.length, this.schema.getFields().size());
-        }
-        Map<String, Object> keyedRow = new LinkedHashMap<>();
-        Object[] extendedRow;
-        Object[] resultRow = new Object[rowLength];
 
         // If there's a schema, attempt to cast the row.
         if(this.schema != null){
+            if (null == this.fields) {
+                compileCastPlan();
+            }
+            int rowLength = Math.max(row.length, this.fields.length);
+            Map<String, Object> keyedRow = keyed ? new LinkedHashMap<>() : null;
+            // in `keyed` and `extended` mode, the values are only added to the keyed row
+            Object[] resultRow = (!keyed || extended) ? new Object[rowLength] : null;
+
             for(int i = 0; i < rowLength; i++){
-                Field field = this.schema.getFields().get(i);
+                Field field = this.fields[i];
                 Object val = null;
-                // if the CSVFormat does not specify a header row, mapping will be null and we use the
-                // row order from the Schema
-                Integer mappedKey = i;
-                if (null != mapping) {
-                    if (null != mapping.get(i))
-                        mappedKey = mapping.get(i);
-                    else
-                        mappedKey = null;
-
-                }
-                // null keys can happen for JSON arrays of JSON objects because
-                // null values will lead to missing entries
-                if (null != mappedKey) {
-                    // if the last column(s) contain nulls, prevent an ArrayIndexOutOfBoundsException
-                    if (mappedKey < row.length) {
-                        rawVal = row[mappedKey];
-                        val = field.castValue(rawVal);
-                    }
+                int column = this.columnIndices[i];
+                // if the last column(s) contain nulls, prevent an ArrayIndexOutOfBoundsException
+                if ((column >= 0) && (column < row.length)) {
+                    val = field.castValue(row[column]);
                 }
 
                 Object endVal = cast ? val : field.formatValueAsString(val);
@@ -146,7 +169,7 @@ public class TableIterator<T> implements Iterator<T> {
             }
 
             if (extended){
-                extendedRow = new Object[]{index, this.headers, resultRow};
+                Object[] extendedRow = new Object[]{index, this.headers, resultRow};
                 index++;
                 return (T)extendedRow;
             } else if(keyed){
@@ -157,12 +180,12 @@ public class TableIterator<T> implements Iterator<T> {
         }else{
             // Enter here if no Schema has been defined.
             if(extended){
-                extendedRow = new Object[]{index, this.headers, row};
+                Object[] extendedRow = new Object[]{index, this.headers, row};
                 index++;
                 return (T)extendedRow;
 
             }else if(keyed){
-                keyedRow = new HashMap();
+                Map<String, Object> keyedRow = new HashMap<>();
                 for(int i=0; i<row.length; i++){
                     keyedRow.put(this.headers[i], row[i]);
                 }
@@ -173,4 +196,43 @@ public class TableIterator<T> implements Iterator<T> {
             }
         }
     }
+
+    /**
+     * Release the resources of the underlying data source, e.g. the file handle of a CSV file, if the iterator
+     * is abandoned before all rows were read. Exhausted iterators release them automatically.
+     */
+    @Override
+    public void close() {
+        if (this.wrappedIterator instanceof Closeable) {
+            try {
+                ((Closeable) this.wrappedIterator).close();
+            } catch (IOException ex) {
+                throw new TableIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Resolve the Schema fields and the column mapping once instead of for every row. For each Schema field,
+     * `columnIndices` holds the index of the data column to cast or -1 if the field has no column in the data.
+     */
+    void compileCastPlan() {
+        List<Field<?>> schemaFields = this.schema.getFields();
+        Field<?>[] fieldArr = schemaFields.toArray(new Field<?>[0]);
+        int[] indices = new int[fieldArr.length];
+        for (int i = 0; i < fieldArr.length; i++) {
+            // if the CSVFormat does not specify a header row, mapping will be null and we use the
+            // row order from the Schema
+            if (null == mapping) {
+                indices[i] = i;
+            } else {
+                // null keys can happen for JSON arrays of JSON objects because
+                // null values will lead to missing entries
+                Integer mappedKey = mapping.get(i);
+                indices[i] = (null != mappedKey) ? mappedKey : -1;
+            }
+        }
+        this.columnIndices = indices;
+        this.fields = fieldArr;
+    }
 }
@@ -0,0 +1,249 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.field.BooleanField;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.NumberField;
+import io.frictionlessdata.tableschema.field.YearField;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One row of a Table with the values of `integer`, `number`, `boolean` and `year` fields held in primitive
+ * arrays, so reading them via {@link #getLong(int)}, {@link #getDouble(int)} or {@link #getBoolean(int)} does
+ * not create boxed objects. Values of all other field types are held as the objects they are cast to.
+ *
+ * Instances are reused by the {@link TypedRowIterator} that returns them: the values are overwritten by
+ * the next call to {@link TypedRowIterator#next()}, so copy them if they must outlive the current row.
+ *
+ * Like JDBC's ResultSet, the primitive getters return 0 or false for null values, use {@link #isNull(int)}
+ * to tell them apart.
+ */
+public final class TypedRow {
+    static final byte KIND_OBJECT = 0;
+    static final byte KIND_LONG = 1;
+    static final byte KIND_DOUBLE = 2;
+    static final byte KIND_BOOLEAN = 3;
+    static final byte KIND_YEAR = 4;
+
+    private final Field<?>[] fields;
+    private final byte[] kinds;
+    private final Map<String, Integer> fieldIndices = new HashMap<>();
+
+    // values of LONG, BOOLEAN (0 or 1) and YEAR columns
+    private final long[] longs;
+    private final double[] doubles;
+    // values of OBJECT columns, and values of LONG columns that don't fit in a long
+    private final Object[] objects;
+    private final boolean[] nulls;
+    // the raw values, to create the exact objects for `getObject()` on DOUBLE columns
+    private final String[] rawValues;
+
+    TypedRow(Field<?>[] fields) {
+        this.fields = fields;
+        this.kinds = new byte[fields.length];
+        this.longs = new long[fields.length];
+        this.doubles = new double[fields.length];
+        this.objects = new Object[fields.length];
+        this.nulls = new boolean[fields.length];
+        this.rawValues = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            kinds[i] = kindOf(fields[i]);
+            fieldIndices.putIfAbsent(fields[i].getName(), i);
+        }
+    }
+
+    private static byte kindOf(Field<?> field) {
+        if (field instanceof IntegerField) {
+            return KIND_LONG;
+        } else if (field instanceof NumberField) {
+            return KIND_DOUBLE;
+        } else if (field instanceof BooleanField) {
+            return KIND_BOOLEAN;
+        } else if (field instanceof YearField) {
+            return KIND_YEAR;
+        }
+        return KIND_OBJECT;
+    }
+
+    /**
+     * Cast the raw value into column `col`. Empty values are stored as null.
+     */
+    void set(int col, String value) {
+        rawValues[col] = value;
+        objects[col] = null;
+        if ((null == value) || value.isEmpty()) {
+            nulls[col] = true;
+            return;
+        }
+        nulls[col] = false;
+        switch (kinds[col]) {
+            case KIND_LONG:
+                try {
+                    longs[col] = ((IntegerField) fields[col]).castLong(value);
+                } catch (ArithmeticException ex) {
+                    objects[col] = ((IntegerField) fields[col]).castValue(value);
+                }
+                break;
+            case KIND_DOUBLE:
+                doubles[col] = ((NumberField) fields[col]).castDouble(value);
+                break;
+            case KIND_BOOLEAN:
+                longs[col] = ((BooleanField) fields[col]).castBoolean(value) ? 1 : 0;
+                break;
+            case KIND_YEAR:
+                longs[col] = ((YearField) fields[col]).castInt(value);
+                break;
+            default:
+                objects[col] = fields[col].castValue(value);
+        }
+    }
+
+    /**
+     * @return the number of columns in this row
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Returns the column index of the field with name `fieldName`
+     * @param fieldName the name of the Schema field
+     * @return the column index
+     * @throws IllegalArgumentException if there is no field with that name
+     */
+    public int getFieldIndex(String fieldName) {
+        Integer index = fieldIndices.get(fieldName);
+        if (null == index) {
+            throw new IllegalArgumentException("No field with name '" + fieldName + "'");
+        }
+        return index;
+    }
+
+    /**
+     * @param col the column index
+     * @return true if the value in column `col` is null
+     */
+    public boolean isNull(int col) {
+        return nulls[col];
+    }
+
+    /**
+     * Returns the value of an `integer` or `year` column
+     * @param col the column index
+     * @return the value or 0 if it is null
+     * @throws InvalidCastException if the column is of another type
+     * @throws ArithmeticException if the value does not fit in a long
+     */
+    public long getLong(int col) {
+        byte kind = kinds[col];
+        if ((kind != KIND_LONG) && (kind != KIND_YEAR)) {
+            throw wrongType(col, "long");
+        }
+        if (nulls[col]) {
+            return 0;
+        }
+        if (null != objects[col]) {
+            return ((BigInteger) objects[col]).longValueExact();
+        }
+        return longs[col];
+    }
+
+    /**
+     * Returns the value of a `number`, `integer` or `year` column
+     * @param col the column index
+     * @return the value or 0 if it is null
+     * @throws InvalidCastException if the column is of another type
+     */
+    public double getDouble(int col) {
+        byte kind = kinds[col];
+        if ((kind != KIND_DOUBLE) && (kind != KIND_LONG) && (kind != KIND_YEAR)) {
+            throw wrongType(col, "double");
+        }
+        if (nulls[col]) {
+            return 0;
+        }
+        if (kind == KIND_DOUBLE) {
+            return doubles[col];
+        }
+        if (null != objects[col]) {
+            return ((BigInteger) objects[col]).doubleValue();
+        }
+        return longs[col];
+    }
+
+    /**
+     * Returns the value of a `boolean` column
+     * @param col the column index
+     * @return the value or false if it is null
+     * @throws InvalidCastException if the column is of another type
+     */
+    public boolean getBoolean(int col) {
+        if (kinds[col] != KIND_BOOLEAN) {
+            throw wrongType(col, "boolean");
+        }
+        return !nulls[col] && (longs[col] != 0);
+    }
+
+    /**
+     * Returns the value of a `date` column
+     * @param col the column index
+     * @return the value or null
+     * @throws InvalidCastException if the column is of another type
+     */
+    public LocalDate getLocalDate(int col) {
+        if (nulls[col]) {
+            return null;
+        }
+        if (!(objects[col] instanceof LocalDate)) {
+            throw wrongType(col, "LocalDate");
+        }
+        return (LocalDate) objects[col];
+    }
+
+    /**
+     * Returns the value of any column as the object {@link Field#castValue(String)} returns,
+     * e.g. a BigDecimal for `number` columns.
+     * @param col the column index
+     * @return the value or null
+     */
+    public Object getObject(int col) {
+        if (nulls[col]) {
+            return null;
+        }
+        switch (kinds[col]) {
+            case KIND_LONG:
+                return (null != objects[col]) ? objects[col] : BigInteger.valueOf(longs[col]);
+            case KIND_DOUBLE:
+                // create the exact value instead of converting the double
+                return fields[col].castValue(rawValues[col]);
+            case KIND_BOOLEAN:
+                return longs[col] != 0;
+            case KIND_YEAR:
+                return Year.of((int) longs[col]);
+            default:
+                return objects[col];
+        }
+    }
+
+    /**
+     * @return the values of this row as the objects {@link Field#castValue(String)} returns
+     */
+    public Object[] toArray() {
+        Object[] values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            values[i] = getObject(i);
+        }
+        return values;
+    }
+
+    private InvalidCastException wrongType(int col, String javaType) {
+        return new InvalidCastException("Field '" + fields[col].getName() + "' of type '"
+                + fields[col].getType() + "' cannot be read as " + javaType);
+    }
+}
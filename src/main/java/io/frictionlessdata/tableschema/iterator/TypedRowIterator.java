@@ -0,0 +1,37 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+/**
+ * {@link TableIterator} that casts the rows of a Table into one reused {@link TypedRow} instead of
+ * creating an array of objects per row. Values of numeric and boolean fields are stored as primitives,
+ * see {@link TypedRow} for the accessors.
+ *
+ * The returned TypedRow is only valid until the next call to {@link #next()}.
+ */
+public class TypedRowIterator extends TableIterator<TypedRow> {
+    private TypedRow row = null;
+
+    public TypedRowIterator(Table table) {
+        if (null == table.getSchema()) {
+            throw new TableSchemaException("Cannot cast without a schema");
+        }
+        this.init(table);
+    }
+
+    @Override
+    public TypedRow next() {
+        String[] values = this.wrappedIterator.next();
+        if (null == this.fields) {
+            compileCastPlan();
+            this.row = new TypedRow(this.fields);
+        }
+        for (int i = 0; i < this.fields.length; i++) {
+            int column = this.columnIndices[i];
+            // if the last column(s) contain nulls, prevent an ArrayIndexOutOfBoundsException
+            row.set(i, ((column >= 0) && (column < values.length)) ? values[column] : null);
+        }
+        return row;
+    }
+}
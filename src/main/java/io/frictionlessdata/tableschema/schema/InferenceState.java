@@ -0,0 +1,354 @@
+package io.frictionlessdata.tableschema.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.frictionlessdata.tableschema.exception.TypeInferringException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static io.frictionlessdata.tableschema.field.Field.FIELD_TYPE_ANY;
+
+/**
+ * The scores and formats collected during type inference: for each column, how many values were compatible
+ * with each Field type, and the format detected for the column.
+ *
+ * States can be built independently for shards of a dataset, on different threads or JVMs, and combined with
+ * {@link #merge(InferenceState)}. To move a state between JVMs, write it with {@link #asJson()} and read it
+ * back with {@link #fromJson(String)}. Once all evidence is in, {@link #toSchema()} settles on the type
+ * with the highest score per column.
+ *
+ * Instances are not thread-safe, each one must be fed from one thread at a time.
+ */
+public final class InferenceState {
+    static final String JSON_KEY_HEADERS = "headers";
+    static final String JSON_KEY_ROW_COUNT = "rowCount";
+    static final String JSON_KEY_COLUMNS = "columns";
+    static final String JSON_KEY_TYPE_SCORES = "typeScores";
+
+    private final String[] headers;
+    private final ColumnState[] columns;
+    private long rowCount = 0;
+
+    /**
+     * Create an empty state for a table with the given headers
+     * @param headers the table headers
+     */
+    public InferenceState(String[] headers) {
+        this.headers = headers.clone();
+        this.columns = new ColumnState[headers.length];
+        for (int i = 0; i < headers.length; i++) {
+            columns[i] = new ColumnState();
+        }
+    }
+
+    /**
+     * Score the rows of `data`
+     * @param data Iterator over the table rows
+     * @param rowLimit the max number of rows to score, rows 0 to `rowLimit` (inclusive) are scored.
+     *                 -1 to score all rows
+     * @return this state
+     */
+    public InferenceState addRows(Iterator<Object[]> data, int rowLimit) {
+        for(int i = 0; ((rowLimit == -1) || (i <= rowLimit)) && data.hasNext(); i++){
+            addRow(data.next());
+        }
+        return this;
+    }
+
+    /**
+     * Score the values of one table row
+     * @param row the row values, `null` values count as empty
+     */
+    public void addRow(Object[] row) {
+        checkRowLength(row);
+        rowCount++;
+        for (int j = 0; j < row.length; j++) {
+            columns[j].findType(toDatum(row[j]));
+        }
+    }
+
+    /**
+     * Score the values of a sample of table rows, with the columns partitioned across the threads of `pool`.
+     * Each column is scored by one task only, in row order, so the result is the same as adding the rows
+     * one by one.
+     * @param rows the rows to score
+     * @param pool the pool to run the column tasks on
+     */
+    void addRows(List<Object[]> rows, ForkJoinPool pool) {
+        for (Object[] row : rows) {
+            checkRowLength(row);
+        }
+        rowCount += rows.size();
+        pool.invoke(new ColumnTask(rows, 0, columns.length));
+    }
+
+    private void checkRowLength(Object[] row) {
+        if (row.length > columns.length) {
+            throw new TypeInferringException("Row has " + row.length + " values, but there are only "
+                    + columns.length + " headers");
+        }
+    }
+
+    private static String toDatum(Object value) {
+        return (null == value) ? "" : value.toString();
+    }
+
+    /**
+     * Add the scores of `other` to the scores of this state. Formats are taken from this state first, so merging
+     * the states of consecutive shards in data order detects the same formats as scoring the rows in one run.
+     * @param other the state to merge into this one, remains unchanged
+     * @return this state
+     * @throws TypeInferringException if the headers of the states differ
+     */
+    public InferenceState merge(InferenceState other) {
+        if (!Arrays.equals(headers, other.headers)) {
+            throw new TypeInferringException("Cannot merge inference states with different headers: "
+                    + Arrays.toString(headers) + " != " + Arrays.toString(other.headers));
+        }
+        for (int j = 0; j < columns.length; j++) {
+            columns[j].merge(other.columns[j]);
+        }
+        rowCount += other.rowCount;
+        return this;
+    }
+
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+
+    /**
+     * @return the number of rows scored into this state, including those of merged states
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the type scores of one column
+     * @param column the column index
+     * @return the number of values that were first compatible with each type
+     */
+    public Map<String, Integer> getTypeScores(int column) {
+        return new HashMap<>(columns[column].typeScores);
+    }
+
+    /**
+     * Returns the format detected for one column
+     * @param column the column index
+     * @return the format, or `null` if no value of the column has been scored yet
+     */
+    public String getFormat(int column) {
+        return columns[column].format;
+    }
+
+    /**
+     * Settle for the type that was inferred the most for each column and return the Schema
+     * @return Schema generated from the scores
+     * @throws TypeInferringException if creating the Schema fails
+     */
+    public Schema toSchema() throws TypeInferringException {
+        try {
+            return Schema.fromJson(toSchemaJson(), true);
+        } catch (Exception ex) {
+            throw new TypeInferringException(ex);
+        }
+    }
+
+    /**
+     * Serialize the state, for example to send it to the JVM that merges the states of all shards
+     * @return the state as a JSON String
+     */
+    public String asJson() {
+        List<Map<String, Object>> columnArray = new ArrayList<>();
+        for (ColumnState column : columns) {
+            Map<String, Object> columnObj = new LinkedHashMap<>();
+            columnObj.put(JSON_KEY_TYPE_SCORES, column.typeScores);
+            columnObj.put(Field.JSON_KEY_FORMAT, column.format);
+            columnArray.add(columnObj);
+        }
+        Map<String, Object> stateObj = new LinkedHashMap<>();
+        stateObj.put(JSON_KEY_HEADERS, headers);
+        stateObj.put(JSON_KEY_ROW_COUNT, rowCount);
+        stateObj.put(JSON_KEY_COLUMNS, columnArray);
+        return JsonUtil.getInstance().serialize(stateObj);
+    }
+
+    /**
+     * Read a state written by {@link #asJson()}
+     * @param json the state as a JSON String
+     * @return the state
+     * @throws TypeInferringException if `json` doesn't hold a valid state
+     */
+    public static InferenceState fromJson(String json) throws TypeInferringException {
+        try {
+            JsonNode stateNode = JsonUtil.getInstance().readValue(json);
+            String[] headers = JsonUtil.getInstance().convertValue(stateNode.get(JSON_KEY_HEADERS), String[].class);
+            JsonNode columnArray = stateNode.get(JSON_KEY_COLUMNS);
+            if ((null == headers) || (null == columnArray) || (columnArray.size() != headers.length)) {
+                throw new TypeInferringException("Inference state needs one column per header");
+            }
+            InferenceState state = new InferenceState(headers);
+            state.rowCount = stateNode.path(JSON_KEY_ROW_COUNT).asLong();
+            for (int j = 0; j < headers.length; j++) {
+                JsonNode columnObj = columnArray.get(j);
+                ColumnState column = state.columns[j];
+                columnObj.path(JSON_KEY_TYPE_SCORES).fields().forEachRemaining(
+                        (e) -> column.typeScores.put(e.getKey(), e.getValue().asInt()));
+                JsonNode format = columnObj.get(Field.JSON_KEY_FORMAT);
+                column.format = ((null == format) || format.isNull()) ? null : format.asText();
+            }
+            return state;
+        } catch (TypeInferringException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new TypeInferringException(ex);
+        }
+    }
+
+    /**
+     * For each field, settle for the type that was inferred the most and return the Schema as a String
+     */
+    String toSchemaJson() {
+        // The array that will define the fields in the schema JSON Object.
+        List<Map<String,Object>> fieldArray = new ArrayList<>();
+        for (int j = 0; j < headers.length; j++) {
+            Map<String, Object> fieldObj = new HashMap<>();
+            fieldObj.put(Field.JSON_KEY_NAME, headers[j]);
+            fieldObj.put(Field.JSON_KEY_TITLE, ""); // This will stay blank.
+            fieldObj.put(Field.JSON_KEY_DESCRIPTION, ""); // This will stay blank.
+            fieldObj.put(Field.JSON_KEY_FORMAT, ""); // This will bet set post inferral.
+            fieldObj.put(Field.JSON_KEY_TYPE, ""); // This will bet set post inferral.
+
+            String inferredType = columns[j].getInferredType();
+            if(!StringUtils.isEmpty(inferredType)){
+                fieldObj.put(Field.JSON_KEY_TYPE, inferredType);
+                fieldObj.put(Field.JSON_KEY_FORMAT, columns[j].format);
+            }
+            fieldArray.add(fieldObj);
+        }
+
+        Map<String, Object> schemaJsonObject = new HashMap<>();
+        schemaJsonObject.put(Schema.JSON_KEY_FIELDS, fieldArray);
+        return JsonUtil.getInstance().serialize(schemaJsonObject);
+    }
+
+    /**
+     * Scores the columns from `start` (inclusive) to `end` (exclusive), splitting the range until
+     * each task scores a single column.
+     */
+    private final class ColumnTask extends RecursiveAction {
+        private final List<Object[]> rows;
+        private final int start;
+        private final int end;
+
+        ColumnTask(List<Object[]> rows, int start, int end) {
+            this.rows = rows;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > 1) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ColumnTask(rows, start, middle), new ColumnTask(rows, middle, end));
+                return;
+            }
+            for (int j = start; j < end; j++) {
+                ColumnState column = columns[j];
+                for (Object[] row : rows) {
+                    if (j < row.length) {
+                        column.findType(toDatum(row[j]));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Scores and format of one column. The Field instances used to test values are created on first use
+     * and reused for all values of the column.
+     */
+    static final class ColumnState {
+        // the ValueClassifier bits of the entries of TypeInferrer.TYPE_INFERRAL_ORDER_LIST
+        private static final int[] TYPE_BITS = TypeInferrer.TYPE_INFERRAL_ORDER_LIST.stream()
+                .mapToInt((t) -> ValueClassifier.typeBit(t[0]))
+                .toArray();
+
+        private final Map<String, Integer> typeScores = new HashMap<>();
+        private final Field<?>[] fields = new Field<?>[TypeInferrer.TYPE_INFERRAL_ORDER_LIST.size()];
+        private String format = null;
+
+        void findType(String datum) {
+            // fixes https://github.com/frictionlessdata/tableschema-java/issues/72
+            if (StringUtils.isEmpty(datum)) {
+                updateScore(FIELD_TYPE_ANY);
+                format = "default";
+                return;
+            }
+            // Rule out the types that can't match before running any parser
+            int candidates = ValueClassifier.classify(datum);
+            // a date with a custom format doesn't have to look like yyyy-MM-dd
+            boolean customFormat = (null != format) && !format.equals(Field.FIELD_FORMAT_DEFAULT);
+            if (customFormat) {
+                candidates |= ValueClassifier.DATE;
+            }
+            // Go through the remaining field types and call their parsing method to find
+            // the first that won't throw
+            for (int i = 0; i < fields.length; i++) {
+                if ((TYPE_BITS[i] != 0) && ((candidates & TYPE_BITS[i]) == 0)) {
+                    continue;
+                }
+                Field<?> field = fields[i];
+                if (null == field) {
+                    field = Field.forType(TypeInferrer.TYPE_INFERRAL_ORDER_LIST.get(i)[0]);
+                    fields[i] = field;
+                }
+                String fieldFormat = (null == format) ? field.parseFormat(datum, null) : format;
+                if (field.isCompatibleValue(datum, fieldFormat)) {
+                    format = fieldFormat;
+                    // Keep track of the inferred type and stop trying the remaining types
+                    updateScore(field.getType());
+                    break;
+                }
+            }
+        }
+
+        private void updateScore(String typeKey) {
+            typeScores.merge(typeKey, 1, Integer::sum);
+        }
+
+        private void merge(ColumnState other) {
+            other.typeScores.forEach((type, score) -> typeScores.merge(type, score, Integer::sum));
+            if (null == format) {
+                format = other.format;
+            }
+        }
+
+        /**
+         * Settle for the type with the highest score
+         * @return Type with the highest score
+         */
+        String getInferredType() {
+            int count = 0;
+            String key = null;
+            for (Map.Entry<String, Integer> entry : typeScores.entrySet()) {
+                if (entry.getValue() > count) {
+                    count = entry.getValue();
+                    key = entry.getKey();
+                }
+            }
+            return key;
+        }
+    }
+}
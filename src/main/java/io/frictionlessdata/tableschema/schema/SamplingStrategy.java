@@ -0,0 +1,176 @@
+package io.frictionlessdata.tableschema.schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Selects the rows Schema inference looks at. All strategies read the data in a single pass and hold at most
+ * the sample in memory:
+ * <ul>
+ *     <li>{@link #head(int)} takes the first rows and stops reading, the cheapest option if the data is
+ *     homogeneous</li>
+ *     <li>{@link #reservoir(int, long)} reads all rows and keeps a uniform random sample of them, which
+ *     catches type changes deep in sorted or time-ordered data</li>
+ *     <li>{@link #everyKth(int)} reads all rows and keeps every k-th of them, a deterministic sample that spreads
+ *     evenly over the data</li>
+ * </ul>
+ * Sampled rows are handed to inference in the order they appear in the data.
+ */
+public abstract class SamplingStrategy {
+
+    private SamplingStrategy() {
+        // only the strategies below
+    }
+
+    /**
+     * Sample the rows of `data`
+     * @param data Iterator over the table rows
+     * @return Iterator over the sampled rows
+     */
+    public abstract Iterator<Object[]> sample(Iterator<Object[]> data);
+
+    /**
+     * Sample the first `size` rows
+     * @param size the number of rows to sample
+     * @return the sampling strategy
+     */
+    public static SamplingStrategy head(int size) {
+        checkPositive(size, "Sample size");
+        return new Head(size);
+    }
+
+    /**
+     * Sample `size` rows chosen uniformly at random from all rows, using reservoir sampling
+     * @param size the number of rows to sample
+     * @param seed the seed of the random number generator, the same seed yields the same sample
+     *             of the same data
+     * @return the sampling strategy
+     */
+    public static SamplingStrategy reservoir(int size, long seed) {
+        checkPositive(size, "Sample size");
+        return new Reservoir(size, seed);
+    }
+
+    /**
+     * Sample every `k`-th row, starting with the first
+     * @param k the distance between sampled rows
+     * @return the sampling strategy
+     */
+    public static SamplingStrategy everyKth(int k) {
+        checkPositive(k, "Sampling interval");
+        return new EveryKth(k);
+    }
+
+    private static void checkPositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive, but was " + value);
+        }
+    }
+
+    private static final class Head extends SamplingStrategy {
+        private final int size;
+
+        private Head(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Object[]> sample(Iterator<Object[]> data) {
+            return new Iterator<>() {
+                private int count = 0;
+
+                @Override
+                public boolean hasNext() {
+                    // don't pull from `data` once the sample is complete
+                    return (count < size) && data.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    count++;
+                    return data.next();
+                }
+            };
+        }
+    }
+
+    private static final class Reservoir extends SamplingStrategy {
+        private final int size;
+        private final long seed;
+
+        private Reservoir(int size, long seed) {
+            this.size = size;
+            this.seed = seed;
+        }
+
+        @Override
+        public Iterator<Object[]> sample(Iterator<Object[]> data) {
+            Random random = new Random(seed);
+            List<Object[]> rows = new ArrayList<>();
+            // the position of each sampled row in the data, to restore the row order
+            long[] positions = new long[size];
+            long seen = 0;
+            while (data.hasNext()) {
+                Object[] row = data.next();
+                if (seen < size) {
+                    positions[rows.size()] = seen;
+                    rows.add(row);
+                } else {
+                    // Algorithm R: the row replaces a sampled row with probability size / (seen + 1)
+                    long slot = (long) (random.nextDouble() * (seen + 1));
+                    if (slot < size) {
+                        positions[(int) slot] = seen;
+                        rows.set((int) slot, row);
+                    }
+                }
+                seen++;
+            }
+            Integer[] order = new Integer[rows.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingLong((i) -> positions[i]));
+            List<Object[]> sample = new ArrayList<>(order.length);
+            for (int i : order) {
+                sample.add(rows.get(i));
+            }
+            return sample.iterator();
+        }
+    }
+
+    private static final class EveryKth extends SamplingStrategy {
+        private final int k;
+
+        private EveryKth(int k) {
+            this.k = k;
+        }
+
+        @Override
+        public Iterator<Object[]> sample(Iterator<Object[]> data) {
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return data.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    Object[] row = data.next();
+                    // skip the rows up to the next sampled one
+                    for (int i = 1; (i < k) && data.hasNext(); i++) {
+                        data.next();
+                    }
+                    return row;
+                }
+            };
+        }
+    }
+}
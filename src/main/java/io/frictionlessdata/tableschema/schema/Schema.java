@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.networknt.schema.ValidationMessage;
 import io.frictionlessdata.tableschema.Table;
 import io.frictionlessdata.tableschema.exception.PrimaryKeyException;
+import io.frictionlessdata.tableschema.exception.TableIOException;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import io.frictionlessdata.tableschema.exception.ValidationException;
@@ -23,8 +24,13 @@ import java.io.*;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -230,13 +236,61 @@ public class Schema implements SchemaInterface{
         return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit), true);
     }
 
+    /**
+     * Infer the data types and return the generated schema. Rows are read from `data` as they are needed,
+     * so only the first `rowLimit` rows of the data are ever read.
+     *
+     * @param data     an Iterator over table rows
+     * @param headers  the table headers
+     * @param rowLimit maximal number of rows to use for Schema inferral, -1 to use all rows
+     * @return Schema generated from the inferred input
+     * @throws TypeInferringException if inferring of the Schema fails
+     * @throws IOException            if an underlying IOException is thrown
+     */
+    public static Schema infer(Iterator<Object[]> data, String[] headers, int rowLimit)
+            throws TypeInferringException, IOException {
+        return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit), true);
+    }
+
+    /**
+     * Infer the data types from the rows `sampling` selects from `data` and return the generated schema.
+     *
+     * @param data     an Iterator over table rows
+     * @param headers  the table headers
+     * @param sampling the strategy selecting the rows to use for Schema inferral
+     * @return Schema generated from the inferred input
+     * @throws TypeInferringException if inferring of the Schema fails
+     * @throws IOException            if an underlying IOException is thrown
+     */
+    public static Schema infer(Iterator<Object[]> data, String[] headers, SamplingStrategy sampling)
+            throws TypeInferringException, IOException {
+        return fromJson(TypeInferrer.getInstance().infer(sampling.sample(data), headers, -1), true);
+    }
+
+    /**
+     * Infer the data types and return the generated schema, scoring the columns in parallel on `pool`. The first
+     * `rowLimit` rows are held in memory while the columns are scored, which pays off for wide tables.
+     *
+     * @param data     an Iterator over table rows
+     * @param headers  the table headers
+     * @param rowLimit maximal number of rows to use for Schema inferral, -1 to use all rows
+     * @param pool     the pool to score the columns on
+     * @return Schema generated from the inferred input
+     * @throws TypeInferringException if inferring of the Schema fails
+     * @throws IOException            if an underlying IOException is thrown
+     */
+    public static Schema infer(Iterator<Object[]> data, String[] headers, int rowLimit, ForkJoinPool pool)
+            throws TypeInferringException, IOException {
+        return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit, pool), true);
+    }
+
     /**
      * Infers a table schema from various data sources.
      *
      * This method attempts to infer a schema by reading data from one or more sources
-     * (direct data, files, or URLs), creating tables from each source, and then inferring
-     * schemas from those tables. All inferred schemas must be equal, otherwise an exception
-     * is thrown.
+     * (direct data, files, or URLs), creating tables from each source, and then scoring
+     * the types of the values of those tables. The scores of all sources are combined into
+     * one Schema, so all sources must have the same headers, otherwise an exception is thrown.
      * This method can incur a significant performance penalty for large data sets, in that case use the
      * overloaded method with a row limit.
      *
@@ -244,9 +298,9 @@ public class Schema implements SchemaInterface{
      *                containing JSON representation of table data. May be null if using file or URL sources.
      * @param charset  The character encoding to use when reading from URLs. Used for URL streams only.
      *
-     * @return         The inferred Schema that is consistent across all provided data sources
+     * @return         The Schema inferred from all provided data sources
      * @throws IllegalStateException if no valid data source is provided, if the data type is not supported,
-     *                              or if schemas inferred from different sources are not equal
+     *                              or if the headers of different sources are not equal
      * @throws RuntimeException     if an IOException occurs while reading from files or URLs
      */
     public static Schema infer(Object data, Charset charset) {
@@ -257,49 +311,129 @@ public class Schema implements SchemaInterface{
      * Infers a table schema from various data sources.
      *
      * This method attempts to infer a schema by reading data from one or more sources
-     * (direct data, files, or URLs), creating tables from each source, and then inferring
-     * schemas from those tables. All inferred schemas must be equal, otherwise an exception
-     * is thrown.
+     * (direct data, files, or URLs), creating tables from each source, and then scoring
+     * the types of the values of those tables. The scores of all sources are combined into
+     * one Schema, so all sources must have the same headers, otherwise an exception is thrown.
      *
      * @param data    Direct data source - can be a String containing table data or an ArrayNode
      *                containing JSON representation of table data. May be null if using file or URL sources.
      * @param charset  The character encoding to use when reading from URLs. Used for URL streams only.
      * @param rowLimit The max numer of rows to scan. Huge input files can take a considerable time    to infer.
-     * @return         The inferred Schema that is consistent across all provided data sources
+     * @return         The Schema inferred from all provided data sources
      * @throws IllegalStateException if no valid data source is provided, if the data type is not supported,
-     *                              or if schemas inferred from different sources are not equal
+     *                              or if the headers of different sources are not equal
      * @throws RuntimeException     if an IOException occurs while reading from files or URLs
      */
     public static Schema infer(
             Object data,
             Charset charset,
             int rowLimit) {
+        List<Object> sources = collectSources(data);
+        // score each source, then combine the scores so the types are settled on the evidence of all sources
+        InferenceState state = null;
+        for (Object source : sources) {
+            state = mergeSourceState(state, inferSourceState(source, charset, rowLimit));
+        }
+        return state.toSchema();
+    }
+
+    /**
+     * Infers a table schema from various data sources like {@link #infer(Object, Charset, int)}, but reads and
+     * scores up to `parallelism` sources at the same time. The result is the same as that of the sequential
+     * method. CSV files are streamed instead of being read into memory, so this is the way to go for
+     * directories of many partition files.
+     *
+     * @param data    Direct data source - can be a String containing table data or an ArrayNode
+     *                containing JSON representation of table data. May be null if using file or URL sources.
+     * @param charset  The character encoding to use when reading from URLs. Used for URL streams only.
+     * @param rowLimit The max numer of rows to scan per source, -1 to scan all rows.
+     * @param parallelism the max number of sources to read at the same time
+     * @return         The Schema inferred from all provided data sources
+     * @throws IllegalStateException if no valid data source is provided, if the data type is not supported,
+     *                              or if the headers of different sources are not equal
+     * @throws RuntimeException     if an IOException occurs while reading from files or URLs
+     */
+    public static Schema infer(Object data, Charset charset, int rowLimit, int parallelism) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try {
+            return infer(data, charset, rowLimit, executor, parallelism);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Infers a table schema from various data sources like {@link #infer(Object, Charset, int, int)}, running
+     * the reading tasks on `executor`. At most `parallelism` tasks are submitted, each of which reads one
+     * source after the other, so the number of open sources stays bounded even if `executor` isn't.
+     *
+     * @param data    Direct data source - can be a String containing table data or an ArrayNode
+     *                containing JSON representation of table data. May be null if using file or URL sources.
+     * @param charset  The character encoding to use when reading from URLs. Used for URL streams only.
+     * @param rowLimit The max numer of rows to scan per source, -1 to scan all rows.
+     * @param executor the executor to read the sources on
+     * @param parallelism the max number of sources to read at the same time
+     * @return         The Schema inferred from all provided data sources
+     * @throws IllegalStateException if no valid data source is provided, if the data type is not supported,
+     *                              or if the headers of different sources are not equal
+     * @throws RuntimeException     if an IOException occurs while reading from files or URLs
+     */
+    public static Schema infer(Object data, Charset charset, int rowLimit, ExecutorService executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, but was " + parallelism);
+        }
+        List<Object> sources = collectSources(data);
+        InferenceState[] states = new InferenceState[sources.size()];
+        AtomicInteger nextSource = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(parallelism, sources.size()); i++) {
+            workers.add(executor.submit(() -> {
+                for (int j = nextSource.getAndIncrement(); j < states.length; j = nextSource.getAndIncrement()) {
+                    states[j] = inferSourceState(sources.get(j), charset, rowLimit);
+                }
+            }));
+        }
+        try {
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TypeInferringException(ex);
+        } catch (ExecutionException ex) {
+            throw (ex.getCause() instanceof RuntimeException)
+                    ? (RuntimeException) ex.getCause()
+                    : new TypeInferringException(ex.getCause());
+        } finally {
+            // stop the other workers from picking up more sources if one failed
+            nextSource.set(states.length);
+            workers.forEach((w) -> w.cancel(true));
+        }
+        // merge in source order, so formats are detected as in the sequential method
+        InferenceState state = null;
+        for (InferenceState sourceState : states) {
+            state = mergeSourceState(state, sourceState);
+        }
+        return state.toSchema();
+    }
+
+    /**
+     * Sort the sources in `data` into String data, local Files and URLs, in that order
+     */
+    private static List<Object> collectSources(Object data) {
         List<File> paths = new ArrayList<>();
         List<URL> urls = new ArrayList<>();
-        List<String> s = new ArrayList<>();
+        List<Object> s = new ArrayList<>();
         if (data != null) {
             if (data instanceof String) {
-                s.add((String)data);
+                s.add(data);
             } else if (data instanceof ArrayNode) {
                 s.add(JsonUtil.getInstance().serialize(data));
             } else if (data instanceof List) {
                 // check to see wehther the list contains URLs or file paths for later processing
                 for (Object row : (List<?>) data) {
                     if (row instanceof String) {
-                        try {
-                           URL url = new URL((String) row); // Check if it's a valid URL
-                            urls.add(url);
-                        } catch (Exception e) {
-                            // Not a valid URL, treat as local file path
-                            try {
-                                Files.readString(new File((String)row).toPath()); // Check if it's a valid file path
-                                paths.add(new File((String)row));
-                            } catch (Exception e2) {
-                                // Not a valid file path, treat as string data
-                                s.add((String)row);
-                            }
-                        }
-
+                        collectSource((String) row, s, paths, urls);
                     } else if (row instanceof File) {
                         paths.add((File) row);
                     } else if (row instanceof URL) {
@@ -312,20 +446,7 @@ public class Schema implements SchemaInterface{
                 // check to see wehther the list contains URLs or file paths for later processing
                 for (String row : (String[]) data) {
                     if (row != null) {
-                        try {
-                            URL url = new URL(row); // Check if it's a valid URL
-                            urls.add(url);
-                        } catch (Exception e) {
-                            // Not a valid URL, treat as local file path
-                            try {
-                                Files.readString(new File(row).toPath()); // Check if it's a valid file path
-                                paths.add(new File(row));
-                            } catch (Exception e2) {
-                                // Not a valid file path, treat as string data
-                                s.add(row);
-                            }
-                        }
-
+                        collectSource(row, s, paths, urls);
                     }
                 }
             } else if (data instanceof File[]) {
@@ -344,49 +465,59 @@ public class Schema implements SchemaInterface{
                 throw new IllegalStateException("Cannot infer schema from provided data type");
             }
         }
-        if (paths != null && !paths.isEmpty()) {
-            paths.forEach((f) -> {
-                try {
-                    s.add(Files.readString(f.toPath()));
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            });
-        }
-        if (urls != null && !urls.isEmpty()) {
-            urls.forEach((url) -> {
-                try {
-                    InputStream str = url.openStream();
-                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(str, charset))) {
-                        s.add(reader.lines().collect(Collectors.joining("\n")));
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-
-            });
-        }
+        s.addAll(paths);
+        s.addAll(urls);
         if (s.isEmpty()){
             throw new IllegalStateException("No valid data source provided for schema inference");
         }
-        List<Schema> schemas = new ArrayList<>();
-        for (String str : s) {
-            Table table = Table.fromSource(str);
-            String[] headers = table.getHeaders();
-            Schema schema = table.inferSchema(headers, rowLimit);
-            schemas.add(schema);
-        }
-        Schema lastSchema = null;
-        for (Schema schema: schemas) {
-            if (null == lastSchema) {
-                lastSchema = schema;
+        return s;
+    }
+
+    private static void collectSource(String row, List<Object> s, List<File> paths, List<URL> urls) {
+        try {
+            URL url = new URL(row); // Check if it's a valid URL
+            urls.add(url);
+        } catch (Exception e) {
+            // Not a valid URL, treat as local file path if such a file exists, otherwise as string data
+            File file = new File(row);
+            if (file.isFile() && file.canRead()) {
+                paths.add(file);
             } else {
-                if (!lastSchema.equals(schema)) {
-                    throw new IllegalStateException("Inferred schemas are not equal: " + lastSchema + " != " + schema);
-                }
+                s.add(row);
+            }
+        }
+    }
+
+    /**
+     * Score the values of one source. CSV files are streamed, URLs and JSON files are read into memory.
+     */
+    private static InferenceState inferSourceState(Object source, Charset charset, int rowLimit) {
+        Table table;
+        if (source instanceof File) {
+            File file = ((File) source).getAbsoluteFile();
+            table = Table.fromSource(new File(file.getName()), file.getParentFile());
+        } else if (source instanceof URL) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(((URL) source).openStream(), charset))) {
+                table = Table.fromSource(reader.lines().collect(Collectors.joining("\n")));
+            } catch (IOException e) {
+                throw new TableIOException(e);
             }
+        } else {
+            table = Table.fromSource((String) source);
         }
-        return lastSchema;
+        return table.inferState(table.getHeaders(), rowLimit);
+    }
+
+    private static InferenceState mergeSourceState(InferenceState state, InferenceState sourceState) {
+        if (null == state) {
+            return sourceState;
+        }
+        if (!Arrays.equals(state.getHeaders(), sourceState.getHeaders())) {
+            throw new IllegalStateException("Inferred schemas are not equal, headers differ: "
+                    + Arrays.toString(state.getHeaders()) + " != " + Arrays.toString(sourceState.getHeaders()));
+        }
+        return state.merge(sourceState);
     }
 
     /**
@@ -557,8 +688,13 @@ public class Schema implements SchemaInterface{
         setPrimaryKey(pkList);
     }
 
+    /**
+     * Get the names of the primary key fields, one for a single primary key
+     *
+     * @return the names of the primary key fields, empty if there is no primary key
+     */
     @JsonIgnore
-    List<String> getPrimaryKeyParts() {
+    public List<String> getPrimaryKeyParts() {
         if (null == primaryKey) {
             return Collections.emptyList();
         }
@@ -0,0 +1,160 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+/**
+ * Looks at the characters of a value once and rules out the Field types whose parsers can't possibly accept it,
+ * so type inference doesn't run the exception-throwing parsers (or the JSON schema validation of `geojson`)
+ * for them. For example, "hello" has no digits, no comma and doesn't start with `{` or `[`, which leaves only
+ * `string` and `any`.
+ *
+ * The checks are necessary conditions of the respective parsers, never sufficient ones: a type that is not ruled
+ * out still has to be tested with {@link Field#isCompatibleValue(String, String)}.
+ */
+final class ValueClassifier {
+    static final int GEOPOINT = 1;
+    static final int DURATION = 1 << 1;
+    static final int YEAR = 1 << 2;
+    static final int YEARMONTH = 1 << 3;
+    static final int DATE = 1 << 4;
+    static final int TIME = 1 << 5;
+    static final int DATETIME = 1 << 6;
+    static final int INTEGER = 1 << 7;
+    static final int NUMBER = 1 << 8;
+    static final int BOOLEAN = 1 << 9;
+    static final int GEOJSON = 1 << 10;
+    static final int OBJECT = 1 << 11;
+    static final int ARRAY = 1 << 12;
+
+    private ValueClassifier() {
+        // static helpers only
+    }
+
+    /**
+     * Returns the bit of a Field type, or 0 for types the classifier doesn't rule out (`string`, `any`)
+     * @param type the Field type name
+     * @return the bit for `type`
+     */
+    static int typeBit(String type) {
+        switch (type) {
+            case Field.FIELD_TYPE_GEOPOINT: return GEOPOINT;
+            case Field.FIELD_TYPE_DURATION: return DURATION;
+            case Field.FIELD_TYPE_YEAR: return YEAR;
+            case Field.FIELD_TYPE_YEARMONTH: return YEARMONTH;
+            case Field.FIELD_TYPE_DATE: return DATE;
+            case Field.FIELD_TYPE_TIME: return TIME;
+            case Field.FIELD_TYPE_DATETIME: return DATETIME;
+            case Field.FIELD_TYPE_INTEGER: return INTEGER;
+            case Field.FIELD_TYPE_NUMBER: return NUMBER;
+            case Field.FIELD_TYPE_BOOLEAN: return BOOLEAN;
+            case Field.FIELD_TYPE_GEOJSON: return GEOJSON;
+            case Field.FIELD_TYPE_OBJECT: return OBJECT;
+            case Field.FIELD_TYPE_ARRAY: return ARRAY;
+            default: return 0;
+        }
+    }
+
+    /**
+     * Classify a value in one pass over its characters.
+     * @param value the non-empty value to classify
+     * @return the bits of all types that might accept the value
+     */
+    static int classify(String value) {
+        int length = value.length();
+        int asciiDigits = 0;
+        int colons = 0;
+        int commas = 0;
+        boolean anyDigit = false;
+        boolean hasT = false;
+        int start = -1;
+        int end = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if ((c >= '0') && (c <= '9')) {
+                asciiDigits++;
+                anyDigit = true;
+            } else if (c == ':') {
+                colons++;
+            } else if (c == ',') {
+                commas++;
+            } else if (c == 'T') {
+                hasT = true;
+            } else if ((c > 127) && Character.isDigit(c)) {
+                // BigInteger and BigDecimal accept all Unicode digits
+                anyDigit = true;
+            }
+            if (!isWhitespace(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+                end = i + 1;
+            }
+        }
+        char first = value.charAt(0);
+        char firstNonWs = (start < 0) ? ' ' : value.charAt(start);
+
+        int candidates = 0;
+        // "lon, lat", [lon, lat] and {"lon": lon, "lat": lat} all need a comma
+        if (commas > 0) {
+            candidates |= GEOPOINT;
+        }
+        // Duration.parse() expects an optionally signed ISO-8601 duration like PT8H
+        if (isP(first) || (((first == '+') || (first == '-')) && (length > 1) && isP(value.charAt(1)))) {
+            candidates |= DURATION;
+        }
+        if ((length == 4) && (asciiDigits == 4)) {
+            candidates |= YEAR;
+        }
+        if ((length == 7) && (asciiDigits == 6) && (value.charAt(4) == '-')) {
+            candidates |= YEARMONTH;
+        }
+        if ((length == 10) && (asciiDigits == 8) && (value.charAt(4) == '-') && (value.charAt(7) == '-')) {
+            candidates |= DATE;
+        }
+        if ((length >= 3) && (length <= 8) && (asciiDigits + colons == length) && isAsciiDigit(first)) {
+            candidates |= TIME;
+        }
+        // the shortest match is yyyy-MM-ddTHH:mm:ss
+        if (hasT && (length >= 19) && (isAsciiDigit(first) || (first == '-'))) {
+            candidates |= DATETIME;
+        }
+        if (anyDigit) {
+            candidates |= INTEGER | NUMBER;
+        } else if (isNumberConstant(value, start, end)) {
+            candidates |= NUMBER;
+        }
+        if ((length <= 5) && ("tTfF01".indexOf(first) >= 0)) {
+            candidates |= BOOLEAN;
+        }
+        // Jackson deserializes the JSON literal `null` into a null Map or array without complaining
+        boolean jsonNull = value.regionMatches(start, "null", 0, 4) && (end - start == 4);
+        if (firstNonWs == '{') {
+            candidates |= GEOJSON | OBJECT;
+        } else if (firstNonWs == '[') {
+            candidates |= ARRAY;
+        } else if (jsonNull) {
+            candidates |= OBJECT | ARRAY;
+        }
+        return candidates;
+    }
+
+    private static boolean isNumberConstant(String value, int start, int end) {
+        int length = end - start;
+        return ((length == 3) && (value.regionMatches(true, start, "NaN", 0, 3)
+                || value.regionMatches(true, start, "INF", 0, 3)))
+                || ((length == 4) && value.regionMatches(true, start, "-INF", 0, 4));
+    }
+
+    private static boolean isWhitespace(char c) {
+        // everything String.trim() removes, plus a byte order mark
+        return (c <= ' ') || (c == '\ufeff');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return (c >= '0') && (c <= '9');
+    }
+
+    private static boolean isP(char c) {
+        return (c == 'P') || (c == 'p');
+    }
+}
@@ -1,8 +1,7 @@
 package io.frictionlessdata.tableschema.tabledatasource;
 
-import com.google.common.collect.Iterators;
+import io.frictionlessdata.tableschema.exception.TableIOException;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
-import io.frictionlessdata.tableschema.util.JsonUtil;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -10,9 +9,7 @@ import org.apache.commons.csv.CSVRecord;
 import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -21,7 +18,7 @@ import java.util.stream.Collectors;
  * <ul>
  *     <li>An {@link InputStream}</li>
  *     <li>An remote URL</li>
- *     <li>A local File</li>
+ *     <li>A local File or an entry in a ZIP archive, both are streamed instead of being read into memory</li>
  *     <li>A String</li>
  * </ul>
  *
@@ -63,14 +60,10 @@ public class CsvTableDataSource extends AbstractTableDataSource<String> {
             String content = br.lines().collect(Collectors.joining("\n"));
             this.dataSource = TableDataSource.trimBOM(content);
 
-            // ensure that both parsing as json fails. If it succeeds,
-            // then the data is not CSV, but JSON -> throw exception
-            try {
-                JsonUtil.getInstance().readValue((String)this.dataSource);
-            } catch (Exception ex) {
-                return;
+            // ensure that the data does not look like JSON -> throw exception if it does
+            if (SniffedFormat.sniff((String)this.dataSource).getKind() != SniffedFormat.Kind.CSV) {
+                throw new IllegalArgumentException("Input seems to be in JSON format");
             }
-            throw new IllegalArgumentException("Input seems to be in JSON format");
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
@@ -95,18 +88,7 @@ public class CsvTableDataSource extends AbstractTableDataSource<String> {
         } catch (IOException e) {
            throw new RuntimeException(e);
         }
-        Iterator<CSVRecord> iterCSVRecords = parser.iterator();
-
-        return Iterators.transform(iterCSVRecords, (CSVRecord input) -> {
-            Iterator<String> iterCols = input.iterator();
-
-            List<String> cols = new ArrayList<>();
-            while(iterCols.hasNext()){
-                cols.add(iterCols.next());
-            }
-
-            return cols.toArray(new String[0]);
-        });
+        return new CSVRecordIterator(parser);
     }
 
     @Override
@@ -114,9 +96,11 @@ public class CsvTableDataSource extends AbstractTableDataSource<String> {
         if (null == headers) {
             // Get a copy of the header map that iterates in column order.
             // The map keys are column names. The map values are 0-based indices.
+            // The parser reads the header row on creation, so closing it right
+            // away means we only ever parse the first record for the headers.
             Map<String, Integer> headerMap = null;
-            try {
-                headerMap = getCSVParser().getHeaderMap();
+            try (CSVParser parser = getCSVParser()) {
+                headerMap = parser.getHeaderMap();
             } catch (Exception ex) {
                 throw new RuntimeException(ex);
             }
@@ -152,11 +136,10 @@ public class CsvTableDataSource extends AbstractTableDataSource<String> {
             //    - https://github.com/frictionlessdata/tableschema-java/issues/29
             //    - https://frictionlessdata.io/specs/data-resource/#url-or-path
 
-            String lines = getFileContents(((File)dataResource).getPath());
-
-            // Get the parser.
-            //return CSVFormat.RFC4180.withHeader().parse(fr);
-            return CSVParser.parse(lines, format);
+            // Stream the file (or ZIP entry) instead of reading it into memory, the
+            // Reader is closed together with the parser
+            Reader reader = TableDataSource.getFileReader(((File)dataResource).getPath(), workDir);
+            return CSVParser.parse(reader, format);
 
         } else if(dataResource instanceof URL){
             return CSVParser.parse((URL)dataResource, StandardCharsets.UTF_8, format);
@@ -175,4 +158,41 @@ public class CsvTableDataSource extends AbstractTableDataSource<String> {
             return false;
         }
     }
+
+    /**
+     * Iterator over the records of a {@link CSVParser} that closes the parser and with it the
+     * underlying Reader once all records have been read.
+     */
+    private static class CSVRecordIterator implements Iterator<String[]>, Closeable {
+        private final CSVParser parser;
+        private final Iterator<CSVRecord> records;
+
+        CSVRecordIterator(CSVParser parser) {
+            this.parser = parser;
+            this.records = parser.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = records.hasNext();
+            if (!hasNext) {
+                try {
+                    parser.close();
+                } catch (IOException ex) {
+                    throw new TableIOException(ex);
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public String[] next() {
+            return records.next().values();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
 }
@@ -0,0 +1,594 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import io.frictionlessdata.tableschema.exception.TableIOException;
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Implements a {@link TableDataSource} on a local CSV file that is memory-mapped via
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)} instead of being read through a
+ * {@link java.io.Reader} and the {@link org.apache.commons.csv.CSVParser}.
+ *
+ * The UTF-8 encoded bytes are tokenized directly into cell offsets, Strings are only created for
+ * cells that are actually requested. A {@link io.frictionlessdata.tableschema.iterator.TableIterator}
+ * on a Table with a Schema will therefore only materialize the columns that are mapped to Schema fields,
+ * see {@link #iterator(Collection)}.
+ *
+ * The following {@link CSVFormat} options are honoured, so a format set via
+ * {@link io.frictionlessdata.tableschema.Table#setCsvFormat(CSVFormat)} works as with the
+ * {@link CsvTableDataSource}:
+ * <ul>
+ *     <li>delimiter, quote character and escape character</li>
+ *     <li>comment marker</li>
+ *     <li>header (none, first record as header, or explicit headers with or without skipping the header record)</li>
+ *     <li>ignoring empty lines, ignoring surrounding spaces, trimming and trailing delimiters</li>
+ *     <li>the null String</li>
+ * </ul>
+ *
+ * If the data cannot be handled by the mapped reader (entries of a ZIP archive, files larger than 2GB,
+ * UTF-16/UTF-32 encoded data or multi-character/non-ASCII delimiters), this class transparently falls back to
+ * the streaming implementation of the {@link CsvTableDataSource}.
+ */
+public class MappedCsvTableDataSource extends CsvTableDataSource {
+    private static final int EOF = -1;
+    private static final int DELIMITER = 0;
+    private static final int EOL = 1;
+
+    private final File file;
+
+    MappedCsvTableDataSource(File dataSource, File workDir){
+        super(dataSource, workDir);
+        this.file = dataSource;
+    }
+
+    @Override
+    public Iterator<String[]> iterator(){
+        return iterator(null);
+    }
+
+    /**
+     * Returns an Iterator over the rows of the file that only creates Strings for the cells in the
+     * requested columns, all other cells are `null`. The returned arrays still have the full
+     * width of the row.
+     * @param columns 0-based indices of the columns to materialize. If `null`, all columns are materialized
+     * @return Iterator over the data
+     */
+    public Iterator<String[]> iterator(Collection<Integer> columns){
+        ByteBuffer buffer = mapFile();
+        if (null == buffer) {
+            return super.iterator();
+        }
+        return createIterator(buffer, toWanted(columns), buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Split the file into up to `chunks` byte ranges that start and end on record boundaries and return
+     * an Iterator for each range, in file order. The Iterators are independent of each other and can be
+     * consumed from different threads. See {@link #iterator(Collection)} for the `columns` parameter.
+     *
+     * The ranges are found speculatively: each nominal split position is moved to the start of the next line,
+     * and the ranges are scanned on `pool` to find where the last record of each range really ends. If a
+     * split position fell inside a quoted value containing line breaks, the following range is re-scanned from
+     * the real record boundary.
+     *
+     * If the data can't be memory-mapped, a single Iterator over all data is returned.
+     * @param chunks the number of ranges to split the file into
+     * @param columns 0-based indices of the columns to materialize. If `null`, all columns are materialized
+     * @param pool the pool to scan the ranges on
+     * @return Iterators over the ranges
+     */
+    public List<Iterator<String[]>> split(int chunks, Collection<Integer> columns, ForkJoinPool pool) {
+        ByteBuffer buffer = mapFile();
+        if (null == buffer) {
+            return Collections.singletonList(super.iterator());
+        }
+        boolean[] wanted = toWanted(columns);
+        int dataStart = buffer.position();
+        int limit = buffer.limit();
+        chunks = Math.max(1, Math.min(chunks, limit - dataStart));
+        if (chunks == 1) {
+            return Collections.singletonList(createIterator(buffer, wanted, dataStart, limit));
+        }
+        CSVFormat format = getFormat();
+        int chunkSize = (limit - dataStart) / chunks;
+        int[] nominal = new int[chunks + 1];
+        int[] starts = new int[chunks];
+        for (int k = 0; k < chunks; k++) {
+            nominal[k] = dataStart + (k * chunkSize);
+            starts[k] = (k == 0) ? dataStart : nextLineStart(buffer, nominal[k], limit);
+        }
+        nominal[chunks] = limit;
+
+        // find the end of each range, assuming the speculative starts are record boundaries
+        List<Callable<Integer>> scans = new ArrayList<>();
+        for (int k = 0; k < chunks; k++) {
+            final int start = starts[k];
+            final int end = nominal[k + 1];
+            scans.add(() -> {
+                try {
+                    return scanRange(buffer.duplicate(), format, start, end);
+                } catch (TableIOException ex) {
+                    // most likely started inside a quoted value, decided below
+                    return -1;
+                }
+            });
+        }
+        int[] ends = new int[chunks];
+        List<Future<Integer>> results = pool.invokeAll(scans);
+        for (int k = 0; k < chunks; k++) {
+            try {
+                ends[k] = results.get(k).get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new TableIOException(ex);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new TableIOException(ex.getCause());
+            }
+        }
+
+        // The first range starts on a record boundary, so the end of each range is exact if its start is.
+        // Re-scan ranges whose speculative start turned out to be wrong.
+        int[] boundaries = new int[chunks + 1];
+        boundaries[0] = dataStart;
+        for (int k = 0; k < chunks; k++) {
+            if ((starts[k] != boundaries[k]) || (ends[k] < 0)) {
+                ends[k] = scanRange(buffer.duplicate(), format, boundaries[k], nominal[k + 1]);
+            }
+            boundaries[k + 1] = (k == chunks - 1) ? limit : ends[k];
+        }
+
+        List<Iterator<String[]>> iterators = new ArrayList<>();
+        iterators.add(createIterator(buffer.duplicate(), wanted, boundaries[0], boundaries[1]));
+        for (int k = 1; k < chunks; k++) {
+            iterators.add(new MappedRecordIterator(buffer.duplicate(), format, wanted, boundaries[k], boundaries[k + 1]));
+        }
+        return iterators;
+    }
+
+    @Override
+    public String[] getHeaders(){
+        if (null == headers) {
+            ByteBuffer buffer = mapFile();
+            if (null == buffer) {
+                return super.getHeaders();
+            }
+            CSVFormat format = getFormat();
+            String[] header = format.getHeader();
+            if (null == header) {
+                return null;
+            }
+            if (header.length > 0) {
+                headers = header;
+            } else {
+                MappedRecordIterator iter = new MappedRecordIterator(buffer, format, null, buffer.position(), buffer.limit());
+                headers = iter.hasNext() ? iter.next() : new String[0];
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Create an Iterator over the records starting in the byte range [start, end), skipping the header
+     * record if `start` is the start of the data
+     */
+    private Iterator<String[]> createIterator(ByteBuffer buffer, boolean[] wanted, int start, int end) {
+        CSVFormat format = getFormat();
+        MappedRecordIterator iter = new MappedRecordIterator(buffer, format, wanted, start, end);
+        String[] header = format.getHeader();
+        if ((start == buffer.position()) && (null != header)
+                && ((header.length == 0) || format.getSkipHeaderRecord())) {
+            // skip the header record
+            if (iter.hasNext()) {
+                iter.skip();
+            }
+        }
+        return iter;
+    }
+
+    private static boolean[] toWanted(Collection<Integer> columns) {
+        if (null == columns) {
+            return null;
+        }
+        int max = -1;
+        for (Integer col : columns) {
+            if ((null != col) && (col > max))
+                max = col;
+        }
+        boolean[] wanted = new boolean[max+1];
+        for (Integer col : columns) {
+            if ((null != col) && (col >= 0))
+                wanted[col] = true;
+        }
+        return wanted;
+    }
+
+    /**
+     * Tokenize the records starting in [start, end) without materializing them and return the
+     * position after the last of those records.
+     */
+    private static int scanRange(ByteBuffer buffer, CSVFormat format, int start, int end) {
+        MappedRecordIterator iter = new MappedRecordIterator(buffer, format, new boolean[0], start, end);
+        while (iter.hasNext()) {
+            iter.skip();
+        }
+        return iter.pos;
+    }
+
+    /**
+     * Returns the position after the first line break at or after `position - 1`
+     */
+    private static int nextLineStart(ByteBuffer buffer, int position, int limit) {
+        int pos = position - 1;
+        while ((pos < limit) && !isEol(buffer.get(pos))) {
+            pos++;
+        }
+        if (pos >= limit) {
+            return limit;
+        }
+        if ((buffer.get(pos) == '\r') && (pos + 1 < limit) && (buffer.get(pos + 1) == '\n')) {
+            return pos + 2;
+        }
+        return pos + 1;
+    }
+
+    private static boolean isEol(int b) {
+        return (b == '\n') || (b == '\r');
+    }
+
+    /**
+     * Map the file into memory. Returns `null` if the file or the CSVFormat can't be handled
+     * by the mapped reader and the streaming implementation must be used.
+     */
+    private ByteBuffer mapFile() {
+        if (workDir.getName().endsWith(".zip") || !isSupported(getFormat())) {
+            return null;
+        }
+        try {
+            Path path = TableDataSource.toSecure(file.toPath(), workDir.toPath());
+            // the mapping stays valid after the channel has been closed
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    return null;
+                }
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                int b0 = (size > 0) ? buffer.get(0) & 0xFF : -1;
+                int b1 = (size > 1) ? buffer.get(1) & 0xFF : -1;
+                int b2 = (size > 2) ? buffer.get(2) & 0xFF : -1;
+                if ((b0 == 0xEF) && (b1 == 0xBB) && (b2 == 0xBF)) {
+                    buffer.position(3);
+                } else if (((b0 == 0xFE) && (b1 == 0xFF)) || ((b0 == 0xFF) && (b1 == 0xFE))
+                        || ((b0 == 0x00) && (b1 == 0x00))) {
+                    // UTF-16 or UTF-32 data
+                    return null;
+                }
+                return buffer;
+            }
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+    }
+
+    private static boolean isSupported(CSVFormat format) {
+        String delimiter = format.getDelimiterString();
+        if ((null == delimiter) || (delimiter.length() != 1) || !isSingleByte(delimiter.charAt(0))) {
+            return false;
+        }
+        return isSingleByte(format.getQuoteCharacter())
+                && isSingleByte(format.getEscapeCharacter())
+                && isSingleByte(format.getCommentMarker());
+    }
+
+    private static boolean isSingleByte(Character c) {
+        return (null == c) || ((c < 0x80) && (c != '\n') && (c != '\r'));
+    }
+
+    /**
+     * Tokenizes the mapped bytes record by record. Cell boundaries are recorded as offsets into
+     * the buffer, cells are only decoded into Strings on request.
+     */
+    private static final class MappedRecordIterator implements Iterator<String[]> {
+        private final ByteBuffer buffer;
+        private final int limit;
+        // records starting at or after this position belong to the next range
+        private final int end;
+        private final boolean[] wanted;
+
+        private final int delimiter;
+        private final int quote;
+        private final int escape;
+        private final int comment;
+        private final boolean ignoreEmptyLines;
+        private final boolean ignoreSurroundingSpaces;
+        private final boolean trim;
+        private final boolean trailingDelimiter;
+        private final String nullString;
+
+        private int pos;
+        // offsets of the cells of the current record
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        // cells that contain escaped characters or doubled quotes and need to be unescaped
+        private boolean[] escaped = new boolean[16];
+        private boolean[] quoted = new boolean[16];
+        private int cellCount;
+        private boolean hasRecord;
+        private byte[] scratch = new byte[256];
+
+        MappedRecordIterator(ByteBuffer buffer, CSVFormat format, boolean[] wanted, int start, int end) {
+            this.buffer = buffer;
+            this.pos = start;
+            this.limit = buffer.limit();
+            this.end = end;
+            this.wanted = wanted;
+            this.delimiter = format.getDelimiterString().charAt(0);
+            this.quote = toInt(format.getQuoteCharacter());
+            this.escape = toInt(format.getEscapeCharacter());
+            this.comment = toInt(format.getCommentMarker());
+            this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+            this.ignoreSurroundingSpaces = format.getIgnoreSurroundingSpaces();
+            this.trim = format.getTrim();
+            this.trailingDelimiter = format.getTrailingDelimiter();
+            this.nullString = format.getNullString();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!hasRecord) {
+                hasRecord = readRecord();
+            }
+            return hasRecord;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasRecord = false;
+            String[] row = new String[cellCount];
+            for (int i = 0; i < cellCount; i++) {
+                if ((null == wanted) || ((i < wanted.length) && wanted[i])) {
+                    row[i] = materialize(i);
+                }
+            }
+            return row;
+        }
+
+        void skip() {
+            hasRecord = false;
+        }
+
+        private boolean readRecord() {
+            while (true) {
+                if (pos >= end) {
+                    return false;
+                }
+                int b = buffer.get(pos);
+                if (b == comment) {
+                    while ((pos < limit) && !isEol(buffer.get(pos))) {
+                        pos++;
+                    }
+                    skipEol();
+                    continue;
+                }
+                if (isEol(b) && ignoreEmptyLines) {
+                    skipEol();
+                    continue;
+                }
+                break;
+            }
+            cellCount = 0;
+            int terminator;
+            do {
+                terminator = readCell();
+            } while (terminator == DELIMITER);
+            if (trailingDelimiter && (cellCount > 1) && !quoted[cellCount-1]
+                    && (starts[cellCount-1] == ends[cellCount-1])) {
+                cellCount--;
+            }
+            return true;
+        }
+
+        private int readCell() {
+            if (ignoreSurroundingSpaces) {
+                while ((pos < limit) && isWhitespace(buffer.get(pos))) {
+                    pos++;
+                }
+            }
+            if ((pos < limit) && (buffer.get(pos) == quote)) {
+                return readQuotedCell();
+            }
+            int start = pos;
+            boolean hasEscapes = false;
+            int end;
+            int terminator;
+            while (true) {
+                if (pos >= limit) {
+                    end = limit;
+                    terminator = EOF;
+                    break;
+                }
+                int b = buffer.get(pos);
+                if (b == delimiter) {
+                    end = pos++;
+                    terminator = DELIMITER;
+                    break;
+                }
+                if (isEol(b)) {
+                    end = pos;
+                    skipEol();
+                    terminator = EOL;
+                    break;
+                }
+                if (b == escape) {
+                    hasEscapes = true;
+                    pos = Math.min(pos + 2, limit);
+                    continue;
+                }
+                pos++;
+            }
+            if (ignoreSurroundingSpaces) {
+                while ((end > start) && isWhitespace(buffer.get(end-1))) {
+                    end--;
+                }
+            }
+            addCell(start, end, hasEscapes, false);
+            return terminator;
+        }
+
+        private int readQuotedCell() {
+            int start = ++pos;
+            boolean hasEscapes = false;
+            int end;
+            while (true) {
+                if (pos >= limit) {
+                    throw new TableIOException("EOF reached before encapsulated token finished");
+                }
+                int b = buffer.get(pos);
+                if (b == quote) {
+                    if ((pos + 1 < limit) && (buffer.get(pos+1) == quote)) {
+                        hasEscapes = true;
+                        pos += 2;
+                        continue;
+                    }
+                    end = pos++;
+                    break;
+                }
+                if (b == escape) {
+                    hasEscapes = true;
+                    pos += 2;
+                    continue;
+                }
+                pos++;
+            }
+            addCell(start, end, hasEscapes, true);
+            while (pos < limit) {
+                int b = buffer.get(pos);
+                if (b == delimiter) {
+                    pos++;
+                    return DELIMITER;
+                }
+                if (isEol(b)) {
+                    skipEol();
+                    return EOL;
+                }
+                if (!isWhitespace(b)) {
+                    throw new TableIOException("Invalid character between encapsulated token and delimiter at position "+pos);
+                }
+                pos++;
+            }
+            return EOF;
+        }
+
+        private void addCell(int start, int end, boolean hasEscapes, boolean isQuoted) {
+            if (cellCount == starts.length) {
+                int newLength = cellCount * 2;
+                starts = Arrays.copyOf(starts, newLength);
+                ends = Arrays.copyOf(ends, newLength);
+                escaped = Arrays.copyOf(escaped, newLength);
+                quoted = Arrays.copyOf(quoted, newLength);
+            }
+            starts[cellCount] = start;
+            ends[cellCount] = end;
+            escaped[cellCount] = hasEscapes;
+            quoted[cellCount] = isQuoted;
+            cellCount++;
+        }
+
+        private String materialize(int cell) {
+            int length = ends[cell] - starts[cell];
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(starts[cell], scratch, 0, length);
+            String value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            if (escaped[cell]) {
+                value = unescape(value, quoted[cell]);
+            }
+            if (trim) {
+                value = value.trim();
+            }
+            if ((null != nullString) && nullString.equals(value)) {
+                return null;
+            }
+            return value;
+        }
+
+        /**
+         * Resolve doubled quotes and escape sequences the same way the commons-csv Lexer does
+         */
+        private String unescape(String value, boolean isQuoted) {
+            StringBuilder sb = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (isQuoted && (c == quote) && (i + 1 < value.length()) && (value.charAt(i+1) == quote)) {
+                    sb.append(c);
+                    i++;
+                } else if ((c == escape) && (i + 1 < value.length())) {
+                    char next = value.charAt(++i);
+                    switch (next) {
+                        case 'r': sb.append('\r'); break;
+                        case 'n': sb.append('\n'); break;
+                        case 't': sb.append('\t'); break;
+                        case 'b': sb.append('\b'); break;
+                        case 'f': sb.append('\f'); break;
+                        case '\r':
+                        case '\n':
+                        case '\t':
+                        case '\b':
+                        case '\f':
+                            sb.append(next);
+                            break;
+                        default:
+                            if ((next == delimiter) || (next == escape) || (next == quote) || (next == comment)) {
+                                sb.append(next);
+                            } else {
+                                sb.append(c).append(next);
+                            }
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+
+        private void skipEol() {
+            if (pos >= limit) {
+                return;
+            }
+            if (buffer.get(pos) == '\r') {
+                pos++;
+                if ((pos < limit) && (buffer.get(pos) == '\n')) {
+                    pos++;
+                }
+            } else if (buffer.get(pos) == '\n') {
+                pos++;
+            }
+        }
+
+        private boolean isWhitespace(int b) {
+            return (b != delimiter) && !isEol(b) && (b >= 0) && Character.isWhitespace(b);
+        }
+
+        private static int toInt(Character c) {
+            return (null == c) ? Integer.MIN_VALUE : c;
+        }
+    }
+}
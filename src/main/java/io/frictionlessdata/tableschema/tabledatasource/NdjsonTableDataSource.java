@@ -0,0 +1,360 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.frictionlessdata.tableschema.exception.TableIOException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Implements a {@link TableDataSource} on newline-delimited JSON (NDJSON, also known as JSON Lines), where each
+ * line holds one row as either
+ * <ul>
+ *     <li>a JSON array, where the first line holds the headers</li>
+ *     <li>a JSON object, where the keys are the column names</li>
+ * </ul>
+ * Blank lines are skipped. Values are converted to Strings like the {@link JsonArrayTableDataSource} does.
+ *
+ * The data is streamed line by line from a local File, a String or an {@link InputStream}. For JSON objects,
+ * the headers are the union of the keys of all lines, which takes a pass over the whole data. Pass the headers
+ * to the constructor, for example the field names of the Schema, to skip that pass. Since an InputStream can
+ * only be read once, the headers of a stream of JSON objects must be passed to the constructor, and the
+ * stream can only be iterated once.
+ *
+ * Since lines are independent of each other, they can be decoded in parallel: if a pool is set via
+ * {@link #setDecodingPool(ForkJoinPool)}, lines are read in batches that are decoded as separate tasks,
+ * while rows are still returned in the order of the data.
+ */
+public class NdjsonTableDataSource extends AbstractTableDataSource<Object> {
+    private static final int BATCH_SIZE = 1024;
+
+    private final String[] suppliedHeaders;
+    private ForkJoinPool decodingPool = null;
+    // for InputStream sources: the Reader and the first line if the headers have been read from it
+    private BufferedReader streamReader = null;
+    private String streamFirstLine = null;
+    private boolean streamConsumed = false;
+
+    /**
+     * Create a data source on a local NDJSON file.
+     * @param dataSource relative File for reading the data from. Must be inside `workDir`
+     * @param workDir Parent directory or ZIP archive
+     * @param headers the headers of lines holding JSON objects. If `null`, the headers are discovered from the
+     *                data. Ignored for lines holding JSON arrays, where the first line holds the headers
+     */
+    NdjsonTableDataSource(File dataSource, File workDir, String[] headers) {
+        super(dataSource);
+        this.workDir = workDir;
+        this.suppliedHeaders = (null == headers) ? null : headers.clone();
+    }
+
+    /**
+     * Create a data source on NDJSON data in a String.
+     * @param dataSource the NDJSON data
+     * @param headers the headers of lines holding JSON objects. If `null`, the headers are discovered from the
+     *                data. Ignored for lines holding JSON arrays, where the first line holds the headers
+     */
+    NdjsonTableDataSource(String dataSource, String[] headers) {
+        super(TableDataSource.trimBOM(dataSource));
+        this.suppliedHeaders = (null == headers) ? null : headers.clone();
+    }
+
+    /**
+     * Create a data source on an InputStream holding NDJSON data. The stream is not read into memory and can
+     * only be iterated once.
+     * @param dataSource the stream to read from
+     * @param headers the headers of lines holding JSON objects, required for them. Ignored for lines holding
+     *                JSON arrays, where the first line holds the headers
+     */
+    NdjsonTableDataSource(InputStream dataSource, String[] headers) {
+        super(dataSource);
+        this.suppliedHeaders = (null == headers) ? null : headers.clone();
+    }
+
+    /**
+     * Decode lines in parallel on `pool`, or sequentially on the reading thread if `pool` is `null`
+     * @param pool the pool to decode lines on
+     */
+    public void setDecodingPool(ForkJoinPool pool) {
+        this.decodingPool = pool;
+    }
+
+    @Override
+    public boolean hasReliableHeaders() {
+        // JSON objects might omit properties with a `null` value
+        try {
+            String first = firstLine();
+            return (null != first) && isArray(first);
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<String[]> iterator() {
+        String[] headers = getHeaders();
+        BufferedReader reader;
+        String first;
+        if (dataSource instanceof InputStream) {
+            if (streamConsumed) {
+                throw new TableIOException("NDJSON from an InputStream can only be read once");
+            }
+            streamConsumed = true;
+            reader = streamReader;
+            first = streamFirstLine;
+        } else {
+            reader = openReader();
+            try {
+                first = readNonBlankLine(reader);
+            } catch (IOException ex) {
+                closeQuietly(reader);
+                throw new TableIOException(ex);
+            }
+        }
+        if ((null != first) && isArray(first)) {
+            // skip the header row
+            return new RowIterator(reader, null, null, 0, decodingPool);
+        }
+        return new RowIterator(reader, first, StreamingJsonTableDataSource.headerIndices(headers), headers.length,
+                decodingPool);
+    }
+
+    /**
+     * For lines holding JSON arrays, the first line holds the headers. For lines holding JSON objects, the
+     * headers passed to the constructor are returned or, if there were none, the union of the keys of all lines,
+     * which is a costly operation that reads the whole data.
+     * @return the headers
+     */
+    @Override
+    public String[] getHeaders() {
+        if (null != this.headers) {
+            return this.headers;
+        }
+        String first = firstLine();
+        if (null == first) {
+            this.headers = new String[0];
+        } else if (isArray(first)) {
+            this.headers = decode(first, null, 0);
+        } else if (null != suppliedHeaders) {
+            this.headers = suppliedHeaders;
+        } else if (dataSource instanceof InputStream) {
+            throw new TableSchemaException("Headers must be supplied for NDJSON objects read from an InputStream");
+        } else {
+            this.headers = collectKeys();
+        }
+        return this.headers;
+    }
+
+    private String firstLine() {
+        try {
+            if (dataSource instanceof InputStream) {
+                if (null == streamReader) {
+                    streamReader = TableDataSource.getReaderSkippingBOM((InputStream) dataSource);
+                    streamFirstLine = readNonBlankLine(streamReader);
+                }
+                return streamFirstLine;
+            }
+            try (BufferedReader reader = openReader()) {
+                return readNonBlankLine(reader);
+            }
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+    }
+
+    private String[] collectKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        JsonFactory factory = JsonUtil.getInstance().getMapper().getFactory();
+        try (BufferedReader reader = openReader()) {
+            String line;
+            while (null != (line = readNonBlankLine(reader))) {
+                try (JsonParser parser = factory.createParser(line)) {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            keys.add(parser.getCurrentName());
+                            parser.nextToken();
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    private BufferedReader openReader() {
+        if (dataSource instanceof File) {
+            try {
+                return new BufferedReader(TableDataSource.getFileReader(((File) dataSource).getPath(), workDir));
+            } catch (IOException ex) {
+                throw new TableIOException(ex);
+            }
+        }
+        return new BufferedReader(new StringReader((String) dataSource));
+    }
+
+    private static String readNonBlankLine(BufferedReader reader) throws IOException {
+        String line;
+        while (null != (line = reader.readLine())) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isArray(String line) {
+        return line.stripLeading().startsWith("[");
+    }
+
+    /**
+     * Decode one line into a row. `headerIndices` is `null` if the lines hold JSON arrays.
+     */
+    private static String[] decode(String line, Map<String, Integer> headerIndices, int width) {
+        try (JsonParser parser = JsonUtil.getInstance().getMapper().getFactory().createParser(line)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                return StreamingJsonTableDataSource.readArrayRow(parser);
+            } else if ((token == JsonToken.START_OBJECT) && (null != headerIndices)) {
+                return StreamingJsonTableDataSource.readObjectRow(parser, headerIndices, width);
+            } else if (token == JsonToken.START_OBJECT) {
+                throw new TableSchemaException("NDJSON data mixes arrays and objects as rows");
+            }
+            throw new TableSchemaException("NDJSON line is neither a JSON array nor an object: " + line);
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+    }
+
+    private static void closeQuietly(Reader reader) {
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            // nothing left to do
+        }
+    }
+
+    /**
+     * Iterator over the rows of the lines of a Reader that closes the Reader once all lines have been read.
+     * Without pool, each line is decoded when its row is requested. With a pool, batches of lines are decoded
+     * as separate tasks, and up to two batches per thread of the pool are decoded ahead.
+     */
+    private static class RowIterator implements Iterator<String[]>, Closeable {
+        private final BufferedReader reader;
+        private final Map<String, Integer> headerIndices;
+        private final int width;
+        private final ForkJoinPool pool;
+        private final Deque<Future<String[][]>> pending = new ArrayDeque<>();
+        private String firstLine;
+        private boolean endOfData = false;
+        private String[][] batch = null;
+        private int position = 0;
+
+        RowIterator(BufferedReader reader, String firstLine, Map<String, Integer> headerIndices, int width,
+                    ForkJoinPool pool) {
+            this.reader = reader;
+            this.firstLine = firstLine;
+            this.headerIndices = headerIndices;
+            this.width = width;
+            this.pool = pool;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while ((null == batch) || (position >= batch.length)) {
+                if (!nextBatch()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return batch[position++];
+        }
+
+        private boolean nextBatch() {
+            try {
+                if (null == pool) {
+                    String line = nextLine();
+                    if (null == line) {
+                        close();
+                        return false;
+                    }
+                    batch = new String[][]{decode(line, headerIndices, width)};
+                    position = 0;
+                    return true;
+                }
+                while (!endOfData && (pending.size() < 2 * pool.getParallelism())) {
+                    List<String> lines = new ArrayList<>(BATCH_SIZE);
+                    String line;
+                    while ((lines.size() < BATCH_SIZE) && (null != (line = nextLine()))) {
+                        lines.add(line);
+                    }
+                    if (!lines.isEmpty()) {
+                        pending.add(pool.submit(() -> decodeAll(lines)));
+                    }
+                }
+                if (pending.isEmpty()) {
+                    close();
+                    return false;
+                }
+                batch = pending.poll().get();
+                position = 0;
+                return true;
+            } catch (IOException ex) {
+                closeQuietly(reader);
+                throw new TableIOException(ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                closeQuietly(reader);
+                throw new TableIOException(ex);
+            } catch (ExecutionException ex) {
+                closeQuietly(reader);
+                throw (ex.getCause() instanceof RuntimeException)
+                        ? (RuntimeException) ex.getCause()
+                        : new TableIOException(ex.getCause());
+            }
+        }
+
+        private String[][] decodeAll(List<String> lines) {
+            String[][] rows = new String[lines.size()][];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = decode(lines.get(i), headerIndices, width);
+            }
+            return rows;
+        }
+
+        private String nextLine() throws IOException {
+            if (null != firstLine) {
+                String line = firstLine;
+                firstLine = null;
+                return line;
+            }
+            String line = endOfData ? null : readNonBlankLine(reader);
+            endOfData = (null == line);
+            return line;
+        }
+
+        @Override
+        public void close() throws IOException {
+            endOfData = true;
+            pending.forEach((f) -> f.cancel(true));
+            pending.clear();
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.frictionlessdata.tableschema.exception.TableIOException;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The format of tabular data, guessed from a bounded prefix of the data instead of trying to parse all of it.
+ *
+ * The data is classified as a JSON array, NDJSON (one JSON object per line) or CSV. A JSON array is recognized
+ * if the prefix starts with `[` and tokenizes as JSON up to its end, NDJSON if the first line holds a complete
+ * JSON object. For CSV, the dialect is guessed from the
+ * complete records in the prefix:
+ * <ul>
+ *     <li>the quote character is the one of `"` and `'` found more often at the start of a cell</li>
+ *     <li>the delimiter is the one of `,`, `;`, tab, `|` and `:` that occurs the same number of times
+ *     (outside of quotes) in most records</li>
+ *     <li>the first record is taken as header row unless it looks like data: if one of its cells is a number,
+ *     or if it has no cell that differs from the data below it by being text above numbers or by its length
+ *     in a column of fixed-length values</li>
+ * </ul>
+ * Use {@link #toCsvFormat()} to parse the data with the guessed dialect. The dialect is only guessed on the first
+ * call of a method that needs it, so classifying the data with {@link #getKind()} is cheap.
+ */
+public final class SniffedFormat {
+    /**
+     * The number of characters looked at
+     */
+    public static final int PREFIX_LENGTH = 64 * 1024;
+    private static final char[] DELIMITERS = new char[]{',', ';', '\t', '|', ':'};
+    private static final int MAX_RECORDS = 50;
+
+    public enum Kind {
+        JSON_ARRAY,
+        NDJSON,
+        CSV
+    }
+
+    private static final Dialect JSON_DIALECT = new Dialect(',', '"', true);
+
+    private final Kind kind;
+    // the prefix the CSV dialect is guessed from, `null` once it is guessed
+    private String prefix;
+    private final boolean complete;
+    private volatile Dialect dialect;
+
+    /**
+     * The CSV dialect, immutable so it can be published through a volatile field
+     */
+    private static final class Dialect {
+        private final char delimiter;
+        private final char quote;
+        private final boolean header;
+
+        private Dialect(char delimiter, char quote, boolean header) {
+            this.delimiter = delimiter;
+            this.quote = quote;
+            this.header = header;
+        }
+    }
+
+    private SniffedFormat(Kind kind, String prefix, boolean complete) {
+        this.kind = kind;
+        this.prefix = prefix;
+        this.complete = complete;
+        this.dialect = (kind == Kind.CSV) ? null : JSON_DIALECT;
+    }
+
+    /**
+     * Guess the format from the first {@link #PREFIX_LENGTH} characters of `data`
+     * @param data the data
+     * @return the guessed format
+     */
+    public static SniffedFormat sniff(String data) {
+        boolean complete = data.length() <= PREFIX_LENGTH;
+        return sniff(complete ? data : data.substring(0, PREFIX_LENGTH), complete);
+    }
+
+    /**
+     * Guess the format from the first {@link #PREFIX_LENGTH} characters read from `reader`. The Reader is
+     * not closed.
+     * @param reader the Reader to read from
+     * @return the guessed format
+     */
+    public static SniffedFormat sniff(Reader reader) {
+        char[] buffer = new char[PREFIX_LENGTH];
+        int length = 0;
+        try {
+            int read;
+            while ((length < buffer.length) && ((read = reader.read(buffer, length, buffer.length - length)) != -1)) {
+                length += read;
+            }
+            boolean complete = (length < buffer.length) || (reader.read() == -1);
+            return sniff(new String(buffer, 0, length), complete);
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+    }
+
+    private static SniffedFormat sniff(String prefix, boolean complete) {
+        prefix = TableDataSource.trimBOM(prefix);
+        int start = 0;
+        while ((start < prefix.length()) && Character.isWhitespace(prefix.charAt(start))) {
+            start++;
+        }
+        if ((start < prefix.length()) && (prefix.charAt(start) == '[') && isJson(prefix, complete)) {
+            return new SniffedFormat(Kind.JSON_ARRAY, null, complete);
+        }
+        if ((start < prefix.length()) && (prefix.charAt(start) == '{')) {
+            // NDJSON holds one complete object per line
+            int end = prefix.indexOf('\n', start);
+            if (isJson((end < 0) ? prefix : prefix.substring(0, end), (end >= 0) || complete)) {
+                return new SniffedFormat(Kind.NDJSON, null, complete);
+            }
+        }
+        // the dialect is only guessed when it is asked for, most callers only need the kind
+        return new SniffedFormat(Kind.CSV, prefix, complete);
+    }
+
+    private Dialect dialect() {
+        Dialect result = dialect;
+        if (null == result) {
+            synchronized (this) {
+                result = dialect;
+                if (null == result) {
+                    char quote = guessQuote(prefix);
+                    List<String> lines = splitRecords(prefix, quote, complete);
+                    char delimiter = guessDelimiter(lines, quote);
+                    result = new Dialect(delimiter, quote, guessHeader(lines, delimiter, quote));
+                    dialect = result;
+                    prefix = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether `prefix` tokenizes as JSON, either completely or up to the end of the prefix if the
+     * data continues after it.
+     */
+    private static boolean isJson(String prefix, boolean complete) {
+        try (JsonParser parser = JsonUtil.getInstance().getMapper().getFactory().createParser(prefix)) {
+            while (null != parser.nextToken()) {
+                // only check the tokens
+            }
+            return true;
+        } catch (JsonProcessingException ex) {
+            // errors at the end of the prefix are fine if the JSON is cut off there
+            return !complete && (null != ex.getLocation()) && (ex.getLocation().getCharOffset() >= prefix.length());
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static char guessQuote(String prefix) {
+        int doubleQuotes = 0;
+        int singleQuotes = 0;
+        char previous = '\n';
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if ((previous == '\n') || (previous == '\r') || isDelimiterCandidate(previous)) {
+                if (c == '"') {
+                    doubleQuotes++;
+                } else if (c == '\'') {
+                    singleQuotes++;
+                }
+            }
+            previous = c;
+        }
+        return (singleQuotes > doubleQuotes) ? '\'' : '"';
+    }
+
+    private static boolean isDelimiterCandidate(char c) {
+        for (char d : DELIMITERS) {
+            if (c == d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Split the prefix into up to {@link #MAX_RECORDS} non-empty records, honouring quoted line breaks. The last
+     * record is dropped if the data continues after the prefix.
+     */
+    private static List<String> splitRecords(String prefix, char quote, boolean complete) {
+        List<String> records = new ArrayList<>();
+        boolean quoted = false;
+        int recordStart = 0;
+        for (int i = 0; (i < prefix.length()) && (records.size() < MAX_RECORDS); i++) {
+            char c = prefix.charAt(i);
+            if (c == quote) {
+                quoted = !quoted;
+            } else if (!quoted && ((c == '\n') || (c == '\r'))) {
+                addRecord(records, prefix.substring(recordStart, i));
+                recordStart = i + 1;
+            }
+        }
+        if (complete && (records.size() < MAX_RECORDS) && (recordStart < prefix.length())) {
+            addRecord(records, prefix.substring(recordStart));
+        }
+        return records;
+    }
+
+    private static void addRecord(List<String> records, String record) {
+        if (!record.isBlank()) {
+            records.add(record);
+        }
+    }
+
+    private static char guessDelimiter(List<String> records, char quote) {
+        char best = ',';
+        double bestConsistency = 0;
+        int bestCount = 0;
+        for (char delimiter : DELIMITERS) {
+            // how many records have each number of delimiters
+            Map<Integer, Integer> frequencies = new HashMap<>();
+            for (String record : records) {
+                frequencies.merge(countUnquoted(record, delimiter, quote), 1, Integer::sum);
+            }
+            int modeCount = 0;
+            int modeRecords = 0;
+            for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+                if ((entry.getKey() > 0) && ((entry.getValue() > modeRecords)
+                        || ((entry.getValue() == modeRecords) && (entry.getKey() > modeCount)))) {
+                    modeCount = entry.getKey();
+                    modeRecords = entry.getValue();
+                }
+            }
+            if (modeCount == 0) {
+                continue;
+            }
+            double consistency = (double) modeRecords / records.size();
+            if ((consistency > bestConsistency) || ((consistency == bestConsistency) && (modeCount > bestCount))) {
+                best = delimiter;
+                bestConsistency = consistency;
+                bestCount = modeCount;
+            }
+        }
+        return best;
+    }
+
+    private static int countUnquoted(String record, char delimiter, char quote) {
+        int count = 0;
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (c == quote) {
+                quoted = !quoted;
+            } else if (!quoted && (c == delimiter)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<String> splitCells(String record, char delimiter, char quote) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (c == quote) {
+                quoted = !quoted;
+            } else if (!quoted && (c == delimiter)) {
+                cells.add(cell.toString().trim());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().trim());
+        return cells;
+    }
+
+    private static boolean guessHeader(List<String> records, char delimiter, char quote) {
+        if (records.size() < 2) {
+            // nothing to compare against, go with the default of a header row
+            return true;
+        }
+        List<String> first = splitCells(records.get(0), delimiter, quote);
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 1; i < records.size(); i++) {
+            rows.add(splitCells(records.get(i), delimiter, quote));
+        }
+        int votes = 0;
+        for (int column = 0; column < first.size(); column++) {
+            String candidate = first.get(column);
+            if (isNumeric(candidate)) {
+                // header names are hardly ever numbers
+                return false;
+            }
+            boolean allNumeric = true;
+            int length = -1;
+            boolean sameLength = true;
+            int values = 0;
+            for (List<String> row : rows) {
+                if ((column >= row.size()) || row.get(column).isEmpty()) {
+                    continue;
+                }
+                String value = row.get(column);
+                values++;
+                allNumeric &= isNumeric(value);
+                if (length < 0) {
+                    length = value.length();
+                } else if (length != value.length()) {
+                    sameLength = false;
+                }
+            }
+            if (values == 0) {
+                continue;
+            }
+            if (allNumeric || (sameLength && (candidate.length() != length))) {
+                votes++;
+            }
+        }
+        return votes > 0;
+    }
+
+    private static boolean isNumeric(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        int start = ((value.charAt(0) == '-') || (value.charAt(0) == '+')) ? 1 : 0;
+        boolean digits = false;
+        boolean point = false;
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c >= '0') && (c <= '9')) {
+                digits = true;
+            } else if ((c == '.') && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+        return digits;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the guessed delimiter, `,` for JSON data
+     */
+    public char getDelimiter() {
+        return dialect().delimiter;
+    }
+
+    /**
+     * @return the guessed quote character, `"` for JSON data
+     */
+    public char getQuote() {
+        return dialect().quote;
+    }
+
+    /**
+     * @return true if the first record is guessed to be a header row, always true for JSON data
+     */
+    public boolean hasHeader() {
+        return dialect().header;
+    }
+
+    /**
+     * Returns the default CSV format of the data sources with the guessed delimiter, quote character and
+     * header handling
+     * @return the CSV format
+     */
+    public CSVFormat toCsvFormat() {
+        Dialect dialect = dialect();
+        CSVFormat.Builder builder = TableDataSource.getDefaultCsvFormat().builder()
+                .setDelimiter(dialect.delimiter)
+                .setQuote(dialect.quote);
+        if (!dialect.header) {
+            builder.setHeader((String[]) null);
+        }
+        return builder.get();
+    }
+
+    @Override
+    public String toString() {
+        return (kind == Kind.CSV)
+                ? "CSV (delimiter '" + getDelimiter() + "', quote '" + getQuote() + "', header " + hasHeader() + ")"
+                : kind.toString();
+    }
+}
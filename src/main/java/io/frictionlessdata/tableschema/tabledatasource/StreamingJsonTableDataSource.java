@@ -0,0 +1,291 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.frictionlessdata.tableschema.exception.TableIOException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Implements a {@link TableDataSource} on a local file holding a JSON-encoded table, like the
+ * {@link JsonArrayTableDataSource}, but reads the rows from a Jackson {@link JsonParser} token stream instead of
+ * parsing the whole file into an {@link com.fasterxml.jackson.databind.node.ArrayNode}. Only the current row is
+ * held in memory, so this is the way to go for large JSON exports.
+ *
+ * Both layouts of the {@link JsonArrayTableDataSource} are supported, and rows are converted to String arrays
+ * the same way:
+ * <ul>
+ *     <li>an array of arrays, where the first array holds the headers</li>
+ *     <li>an array of objects, where the keys are the column names</li>
+ * </ul>
+ *
+ * For an array of objects, the headers are the union of the keys of all objects, which takes a pass over the
+ * whole file that only collects the keys. Pass the headers to the constructor, for example the field names
+ * of the Schema, to skip that pass; keys that are not among them are ignored.
+ */
+public class StreamingJsonTableDataSource extends AbstractTableDataSource<File> {
+    private final String[] suppliedHeaders;
+
+    /**
+     * Create a data source on a JSON file, the headers are discovered from the data
+     * @param dataSource relative File for reading the data from. Must be inside `workDir`
+     * @param workDir Parent directory or ZIP archive
+     */
+    StreamingJsonTableDataSource(File dataSource, File workDir) {
+        this(dataSource, workDir, null);
+    }
+
+    /**
+     * Create a data source on a JSON file.
+     * @param dataSource relative File for reading the data from. Must be inside `workDir`
+     * @param workDir Parent directory or ZIP archive
+     * @param headers the headers of an array of objects. If `null`, the headers are discovered from the data.
+     *                Ignored for an array of arrays, where the first array holds the headers
+     */
+    StreamingJsonTableDataSource(File dataSource, File workDir, String[] headers) {
+        super(dataSource);
+        this.workDir = workDir;
+        this.suppliedHeaders = (null == headers) ? null : headers.clone();
+    }
+
+    @Override
+    public boolean hasReliableHeaders() {
+        // JSON objects might omit properties with a `null` value
+        try (JsonParser parser = openParser()) {
+            return (parser.nextToken() == JsonToken.START_ARRAY);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<String[]> iterator() {
+        String[] headers = getHeaders();
+        JsonParser parser = openParser();
+        try {
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.START_ARRAY) {
+                // skip the header row
+                parser.skipChildren();
+                return new RowIterator(parser, null, parser.nextToken());
+            }
+            return new RowIterator(parser, headers, first);
+        } catch (IOException ex) {
+            closeQuietly(parser);
+            throw new TableIOException(ex);
+        }
+    }
+
+    /**
+     * For an array of arrays, the first array holds the headers. For an array of objects, the headers passed
+     * to the constructor are returned or, if there were none, the union of the keys of all objects, which
+     * is a costly operation that reads the whole file.
+     * @return the headers
+     */
+    @Override
+    public String[] getHeaders() {
+        if (null != this.headers) {
+            return this.headers;
+        }
+        Set<String> headers = new LinkedHashSet<>();
+        try (JsonParser parser = openParser()) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    headers.add(toText(parser, token, false));
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                if (null != suppliedHeaders) {
+                    this.headers = suppliedHeaders;
+                    return this.headers;
+                }
+                while (token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        headers.add(parser.getCurrentName());
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                    token = parser.nextToken();
+                }
+            }
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+        this.headers = headers.toArray(new String[0]);
+        return this.headers;
+    }
+
+    /**
+     * Opens a parser on the file and moves it to the start of the outer array
+     */
+    private JsonParser openParser() {
+        JsonParser parser = null;
+        try {
+            parser = JsonUtil.getInstance().getMapper().getFactory()
+                    .createParser(TableDataSource.getFileReader(dataSource.getPath(), workDir));
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new TableSchemaException("JSON data must be an array of arrays or objects");
+            }
+            return parser;
+        } catch (IOException ex) {
+            closeQuietly(parser);
+            throw new TableIOException(ex);
+        } catch (RuntimeException ex) {
+            closeQuietly(parser);
+            throw ex;
+        }
+    }
+
+    /**
+     * Map each header to its column index, the first column wins for duplicate headers
+     */
+    static Map<String, Integer> headerIndices(String[] headers) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            indices.putIfAbsent(headers[i], i);
+        }
+        return indices;
+    }
+
+    /**
+     * Read the object the parser is positioned at into a row of `width` values, placing each value at the
+     * index of its key. Keys without index are skipped, missing keys yield `null` values.
+     */
+    static String[] readObjectRow(JsonParser parser, Map<String, Integer> headerIndices, int width)
+            throws IOException {
+        String[] row = new String[width];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer index = headerIndices.get(parser.getCurrentName());
+            JsonToken token = parser.nextToken();
+            if (null == index) {
+                parser.skipChildren();
+            } else {
+                row[index] = toText(parser, token, true);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Read the array the parser is positioned at into a row
+     */
+    static String[] readArrayRow(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            values.add(toText(parser, token, false));
+        }
+        return values.toArray(new String[0]);
+    }
+
+    /**
+     * Convert the value at `token` to a String like {@link JsonArrayTableDataSource} does: `null` becomes
+     * an empty String, numbers are rendered like Jackson's number nodes, and nested objects or arrays become
+     * JSON in object rows and empty Strings in array rows.
+     */
+    static String toText(JsonParser parser, JsonToken token, boolean objectRow) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue().toString();
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_FALSE:
+                return "false";
+            case START_OBJECT:
+            case START_ARRAY:
+                if (objectRow) {
+                    return parser.readValueAsTree().toString();
+                }
+                parser.skipChildren();
+                return "";
+            default:
+                return "";
+        }
+    }
+
+    static void closeQuietly(JsonParser parser) {
+        if (null != parser) {
+            try {
+                parser.close();
+            } catch (IOException ex) {
+                // nothing left to do
+            }
+        }
+    }
+
+    /**
+     * Iterator over the rows of the outer array that closes the parser and with it the file once
+     * all rows have been read.
+     */
+    private static class RowIterator implements Iterator<String[]>, Closeable {
+        private final JsonParser parser;
+        // column index per key for arrays of objects, `null` for arrays of arrays
+        private final Map<String, Integer> headerIndices;
+        private final int width;
+        private JsonToken next;
+
+        RowIterator(JsonParser parser, String[] headers, JsonToken first) throws IOException {
+            this.parser = parser;
+            if (null == headers) {
+                this.headerIndices = null;
+                this.width = 0;
+            } else {
+                this.headerIndices = headerIndices(headers);
+                this.width = headers.length;
+            }
+            setNext(first);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (null != next);
+        }
+
+        @Override
+        public String[] next() {
+            if (null == next) {
+                throw new NoSuchElementException();
+            }
+            try {
+                if ((next == JsonToken.START_OBJECT) && (null == headerIndices)) {
+                    throw new TableSchemaException("JSON data mixes arrays and objects as rows");
+                }
+                String[] row = (next == JsonToken.START_OBJECT)
+                        ? readObjectRow(parser, headerIndices, width)
+                        : readArrayRow(parser);
+                advance();
+                return row;
+            } catch (IOException ex) {
+                closeQuietly(parser);
+                throw new TableIOException(ex);
+            }
+        }
+
+        private void advance() throws IOException {
+            setNext(parser.nextToken());
+        }
+
+        private void setNext(JsonToken token) throws IOException {
+            if ((token == JsonToken.START_OBJECT) || (token == JsonToken.START_ARRAY)) {
+                next = token;
+            } else {
+                next = null;
+                parser.close();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            next = null;
+            parser.close();
+        }
+    }
+}
@@ -64,28 +64,47 @@ public interface TableDataSource {
     boolean hasReliableHeaders();
 
     /**
-     * Factory method to instantiate either a JsonArrayDataSource or a
-     * CsvDataSource based on input format
+     * Factory method to instantiate either a JsonArrayDataSource, a NdjsonTableDataSource or a
+     * CsvDataSource based on input format. The format is sniffed from a prefix of the input (see
+     * {@link SniffedFormat}), so only JSON arrays are fully parsed here.
      * @return DataSource created from input String
      */
     static TableDataSource fromSource(String input) {
-        try {
-            // JSON array generation. If an exception is thrown -> probably CSV data
-            ArrayNode json = JsonUtil.getInstance().createArrayNode(input);
-            return new JsonArrayTableDataSource(json);
-        } catch (Exception ex) {
-            // JSON parsing failed, treat it as a CSV
-            return new CsvTableDataSource(input);
+        SniffedFormat.Kind kind = SniffedFormat.sniff(input).getKind();
+        if (kind == SniffedFormat.Kind.NDJSON) {
+            return new NdjsonTableDataSource(input, null);
+        }
+        if (kind == SniffedFormat.Kind.JSON_ARRAY) {
+            try {
+                ArrayNode json = JsonUtil.getInstance().createArrayNode(trimBOM(input));
+                return new JsonArrayTableDataSource(json);
+            } catch (Exception ex) {
+                // the JSON is broken after the sniffed prefix, treat it as a CSV
+            }
         }
+        return new CsvTableDataSource(input);
     }
 
     /**
-     * Factory method to instantiate either a {@link JsonArrayTableDataSource} or a
-     * {@link CsvTableDataSource} based on input format
+     * Factory method to instantiate either a JsonArrayDataSource, a NdjsonTableDataSource or a
+     * CsvDataSource based on input format. The format is sniffed from a prefix of the file like
+     * {@link #fromSource(String)} does.
      * @return DataSource created from input File
      */
     static TableDataSource fromSource(File input, File workDir) {
         try {
+            SniffedFormat.Kind kind;
+            try (Reader rdr = getFileReader(input.getPath(), workDir)) {
+                kind = SniffedFormat.sniff(rdr).getKind();
+            }
+            // Only JSON arrays need to be read into memory, CSV and NDJSON files are streamed
+            // by the data source on each iteration
+            if (kind == SniffedFormat.Kind.NDJSON) {
+                return new NdjsonTableDataSource(input, workDir, null);
+            }
+            if (kind == SniffedFormat.Kind.CSV) {
+                return new CsvTableDataSource(input, workDir);
+            }
             String content = getFileContents(input.getPath(), workDir);
             return fromSource(content);
         } catch (IOException ex) {
@@ -103,8 +122,70 @@ public interface TableDataSource {
         return fromSource(content);
     }
 
+    /**
+     * Factory method to instantiate a {@link MappedCsvTableDataSource} that memory-maps a local
+     * CSV file instead of reading it through a Reader. Use this for large and wide CSV files.
+     * @param input relative File for reading the data from. Must be inside `workDir`
+     * @param workDir Parent directory
+     * @return DataSource created from input File
+     */
+    static TableDataSource fromMappedFile(File input, File workDir) {
+        return new MappedCsvTableDataSource(input, workDir);
+    }
+
+    /**
+     * Factory method to instantiate a {@link StreamingJsonTableDataSource} that reads a local JSON file
+     * from a token stream instead of parsing it into memory. Use this for large JSON files.
+     * @param input relative File for reading the data from. Must be inside `workDir`
+     * @param workDir Parent directory
+     * @param headers the headers of an array of objects, `null` to discover them from the data
+     * @return DataSource created from input File
+     */
+    static TableDataSource fromStreamingJson(File input, File workDir, String[] headers) {
+        return new StreamingJsonTableDataSource(input, workDir, headers);
+    }
+
+    /**
+     * Factory method to instantiate a {@link NdjsonTableDataSource} on a local file holding
+     * newline-delimited JSON. The file is streamed line by line.
+     * @param input relative File for reading the data from. Must be inside `workDir`
+     * @param workDir Parent directory
+     * @param headers the headers of lines holding JSON objects, `null` to discover them from the data
+     * @return DataSource created from input File
+     */
+    static NdjsonTableDataSource fromNdjson(File input, File workDir, String[] headers) {
+        return new NdjsonTableDataSource(input, workDir, headers);
+    }
+
+    /**
+     * Factory method to instantiate a {@link NdjsonTableDataSource} on an InputStream holding
+     * newline-delimited JSON. The stream is read line by line and can only be iterated once.
+     * @param input the stream to read from
+     * @param headers the headers of lines holding JSON objects, required for them
+     * @return DataSource created from input stream
+     */
+    static NdjsonTableDataSource fromNdjson(InputStream input, String[] headers) {
+        return new NdjsonTableDataSource(input, headers);
+    }
+
     static String getFileContents(String path, File workDir) throws IOException {
-        String lines;
+        return readSkippingBOM(getFileInputStream(path, workDir));
+    }
+
+    /**
+     * Opens a BOM-aware {@link Reader} on a file relative to `workDir` or on an entry of a ZIP archive if
+     * `workDir` is a ZIP file. In contrast to {@link #getFileContents(String, File)}, the content is not read
+     * into memory, so this is the way to go for huge files. The caller is responsible for closing the Reader.
+     * @param path relative path of the file or path of the ZIP entry
+     * @param workDir Parent directory or ZIP archive
+     * @return a Reader on the file contents
+     * @throws IOException if the file cannot be opened
+     */
+    static Reader getFileReader(String path, File workDir) throws IOException {
+        return getReaderSkippingBOM(getFileInputStream(path, workDir));
+    }
+
+    static InputStream getFileInputStream(String path, File workDir) throws IOException {
         if (workDir.getName().endsWith(".zip")) {
             //have to exchange the backslashes on Windows, as
             //zip paths are forward slashed.
@@ -112,8 +193,21 @@ public interface TableDataSource {
                 path = path.replaceAll("\\\\", "/");
             ZipFile zipFile = new ZipFile(workDir.getAbsolutePath());
             ZipEntry entry = zipFile.getEntry(path);
-            InputStream stream = zipFile.getInputStream(entry);
-            lines = readSkippingBOM(stream);
+            if (null == entry) {
+                zipFile.close();
+                throw new FileNotFoundException("Entry "+path+" does not exist in "+workDir.getName());
+            }
+            // close the archive together with the entry stream
+            return new FilterInputStream(zipFile.getInputStream(entry)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        zipFile.close();
+                    }
+                }
+            };
         } else {
             // The path value can either be a relative path or a full path.
             // If it's a relative path then build the full path by using the working directory.
@@ -123,9 +217,8 @@ public interface TableDataSource {
             //    - https://github.com/frictionlessdata/tableschema-java/issues/29
             //    - https://frictionlessdata.io/specs/data-resource/#url-or-path
             Path resolvedPath = TableDataSource.toSecure(new File(path).toPath(), workDir.toPath());
-            lines = readSkippingBOM(new FileInputStream(resolvedPath.toFile()));
+            return new FileInputStream(resolvedPath.toFile());
         }
-        return lines;
     }
 
     /**
@@ -137,9 +230,7 @@ public interface TableDataSource {
      */
     static String readSkippingBOM(InputStream is) {
         String content;
-        try (ByteOrderMarkStrippingInputStream bims  = new ByteOrderMarkStrippingInputStream(is);
-             InputStreamReader isr = new InputStreamReader(bims.skipBOM(), bims.getCharset());
-             BufferedReader rdr = new BufferedReader(isr)) {
+        try (BufferedReader rdr = getReaderSkippingBOM(is)) {
                 content = rdr.lines().collect(Collectors.joining("\n"));
         } catch (IOException ex) {
             throw new TableIOException(ex);
@@ -147,6 +238,18 @@ public interface TableDataSource {
         return content;
     }
 
+    /**
+     * Wrap the provided {@link java.io.InputStream} in a {@link ByteOrderMarkStrippingInputStream} and
+     * return a Reader that strips the BOM if found and uses the UTF dialect signalled by the BOM.
+     * @param is InputStream to read from
+     * @return a Reader on the contents of the InputStream
+     * @throws IOException if detecting the BOM fails
+     */
+    static BufferedReader getReaderSkippingBOM(InputStream is) throws IOException {
+        ByteOrderMarkStrippingInputStream bims  = new ByteOrderMarkStrippingInputStream(is);
+        return new BufferedReader(new InputStreamReader(bims.skipBOM(), bims.getCharset()));
+    }
+
     static CSVFormat getDefaultCsvFormat() {
         return CSVFormat.RFC4180
                 .builder()
@@ -0,0 +1,227 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.ForeignKeyException;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableValidationException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the keys found in the referenced fields of a Table, to check foreign keys by looking up the key
+ * of each referencing row instead of comparing rows. The index is built in one pass over the referenced Table;
+ * its memory is proportional to the number of distinct keys of that Table and is held off-heap.
+ *
+ * Both passes read raw rows and only cast the cells of the key fields, without enforcing constraints. Keys with
+ * a missing part or a part that can't be cast are skipped: they are neither indexed nor looked up, the
+ * {@link TableValidator} reports the cells that can't be cast. Keys are compared by their cast values, like the
+ * keys of unique Fields and primary keys, so referencing and referenced fields must be of the same type, except
+ * that `integer` and `number` fields may reference each other.
+ *
+ * The index does not spill to disk, as keys can't be looked up in spilled keys. It holds up to
+ * {@value UniqueIndex#MAX_KEYS} distinct keys.
+ */
+public final class ReferenceIndex implements Closeable {
+    private final UniqueIndex index = new UniqueIndex(Long.MAX_VALUE, false);
+    private final int[] keyFields;
+    private final Field<?>[] referencedFields;
+
+    /**
+     * Receives the keys of referencing rows that are not in the index
+     */
+    public interface MissingKeyConsumer {
+        /**
+         * @param rowNumber the 1-based number of the referencing row
+         * @param key the cast values of the key parts. Only valid during the call
+         * @return true to go on, false to stop looking up keys
+         */
+        boolean missing(long rowNumber, Object[] key);
+    }
+
+    private ReferenceIndex(Field<?>[] referencedFields) {
+        this.referencedFields = referencedFields;
+        this.keyFields = new int[referencedFields.length];
+        for (int i = 0; i < keyFields.length; i++) {
+            keyFields[i] = i;
+        }
+    }
+
+    /**
+     * Build the index over the `fieldNames` of the rows of `table`
+     * @param table the referenced Table
+     * @param fieldNames the names of the referenced fields
+     * @return the index
+     * @throws TableValidationException if the Table has no Schema, a field is not in the Schema of the Table,
+     * the headers of the Table do not match its Schema, or the Table holds more than
+     * {@value UniqueIndex#MAX_KEYS} distinct keys
+     */
+    public static ReferenceIndex build(Table table, List<String> fieldNames) {
+        KeyReader reader = new KeyReader(table, fieldNames, "Referenced");
+        ReferenceIndex index = new ReferenceIndex(reader.fields);
+        try {
+            while (reader.hasNext()) {
+                Object[] key = reader.next();
+                if (null != key) {
+                    UniquenessChecker.add(index.index, key, index.keyFields, reader.rowNumber);
+                }
+            }
+        } catch (IllegalStateException ex) {
+            // the index is held in memory, as keys can't be looked up once it spills
+            index.close();
+            throw new TableValidationException("Referenced fields " + fieldNames + " hold more than "
+                    + UniqueIndex.MAX_KEYS + " distinct keys, the maximum of a reference index");
+        } finally {
+            reader.close();
+        }
+        return index;
+    }
+
+    /**
+     * @param key the cast values of the key parts, in the order of the referenced fields
+     * @return true if a row of the referenced Table has the key. Keys with a missing part are never found
+     */
+    public boolean contains(Object... key) {
+        return UniquenessChecker.find(index, key, keyFields) > 0;
+    }
+
+    /**
+     * Look up the key of the `fieldNames` of every row of `table`
+     * @param table the referencing Table
+     * @param fieldNames the names of the referencing fields, in the order of the referenced fields
+     * @param consumer receives the keys that are not in the index
+     * @throws TableValidationException if the Table has no Schema, a field is not in the Schema of the Table or
+     * the headers of the Table do not match its Schema
+     * @throws ForeignKeyException if the type of a referencing field differs from the one of its referenced field
+     */
+    public void probe(Table table, List<String> fieldNames, MissingKeyConsumer consumer) {
+        KeyReader reader = new KeyReader(table, fieldNames, "Referencing");
+        for (int i = 0; i < referencedFields.length; i++) {
+            // cast values of different types never match, e.g. the String "1" and the integer 1
+            if (!keyType(reader.fields[i]).equals(keyType(referencedFields[i]))) {
+                reader.close();
+                throw new ForeignKeyException("Foreign key field '" + reader.fields[i].getName() + "' of type '"
+                        + reader.fields[i].getType() + "' can't reference field '" + referencedFields[i].getName()
+                        + "' of type '" + referencedFields[i].getType() + "'");
+            }
+        }
+        try {
+            while (reader.hasNext()) {
+                Object[] key = reader.next();
+                if ((null != key) && !contains(key) && !consumer.missing(reader.rowNumber, key)) {
+                    return;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * The type of the keys of `field`. Integral numbers get the same key whether they are cast by an `integer`
+     * or a `number` field, so both have the key type `number`
+     */
+    private static String keyType(Field<?> field) {
+        return Field.FIELD_TYPE_INTEGER.equals(field.getType()) ? Field.FIELD_TYPE_NUMBER : field.getType();
+    }
+
+    /**
+     * Resolve the positions of the `fieldNames` in the fields of `schema`
+     * @throws TableValidationException if a field is not in the Schema
+     */
+    public static int[] fieldIndices(Schema schema, List<String> fieldNames) {
+        List<String> names = schema.getFieldNames();
+        int[] fields = new int[fieldNames.size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = names.indexOf(fieldNames.get(i));
+            if (fields[i] < 0) {
+                throw new TableValidationException("Field '" + fieldNames.get(i) + "' not found in Schema");
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Release the memory of the index
+     */
+    @Override
+    public void close() {
+        index.close();
+    }
+
+    /**
+     * Reads the raw rows of a Table and casts the cells of the key fields
+     */
+    private static final class KeyReader {
+        private final Field<?>[] fields;
+        // for each key part, the index of the data column or -1 if the field has no column in the data
+        private final int[] columns;
+        private final Iterator<String[]> rows;
+        private final Object[] key;
+        private long rowNumber = 0;
+
+        /**
+         * @param role "Referenced" or "Referencing", to name the Table in errors
+         */
+        private KeyReader(Table table, List<String> fieldNames, String role) {
+            Schema schema = table.getSchema();
+            if (null == schema) {
+                // without Schema, the key cells can't be cast
+                throw new TableValidationException(role + " table of fields " + fieldNames + " has no Schema");
+            }
+            int[] indices = fieldIndices(schema, fieldNames);
+            Map<Integer, Integer> mapping = table.getSchemaHeaderMapping();
+            Map<Integer, Integer> keyMapping = (null == mapping) ? null : new HashMap<>();
+            this.fields = new Field<?>[indices.length];
+            this.columns = new int[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                fields[i] = schema.getFields().get(indices[i]);
+                if (null == mapping) {
+                    columns[i] = indices[i];
+                } else {
+                    Integer column = mapping.get(indices[i]);
+                    columns[i] = (null != column) ? column : -1;
+                    if (null != column) {
+                        keyMapping.put(indices[i], column);
+                    }
+                }
+            }
+            this.rows = TableValidator.rawIterator(table, keyMapping);
+            this.key = new Object[indices.length];
+        }
+
+        private boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        /**
+         * @return the key of the next row, or `null` if a part is missing or can't be cast
+         */
+        private Object[] next() {
+            String[] row = rows.next();
+            rowNumber++;
+            for (int i = 0; i < fields.length; i++) {
+                int column = columns[i];
+                String raw = ((column >= 0) && (column < row.length)) ? row[column] : null;
+                try {
+                    key[i] = (null == raw) ? null : fields[i].castValue(raw, false);
+                } catch (InvalidCastException ex) {
+                    return null;
+                }
+                if (null == key[i]) {
+                    return null;
+                }
+            }
+            return key;
+        }
+
+        private void close() {
+            TableValidator.close(rows);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Casts the cells of raw rows with the Fields of a Schema and checks their constraints. The Schema fields and the
+ * column mapping are resolved once, like the {@link io.frictionlessdata.tableschema.iterator.TableIterator} does.
+ * Stateless after construction, so one instance can check rows on several threads.
+ */
+final class RowChecker {
+    /**
+     * Put into the values of a row for cells that can't be cast, unlike `null` for missing values
+     */
+    static final Object UNCAST = new Object();
+
+    private final Field<?>[] fields;
+    // for each Schema field, the index of the data column or -1 if the field has no column in the data
+    private final int[] columns;
+    private final boolean[] constrained;
+
+    RowChecker(Schema schema, Map<Integer, Integer> mapping) {
+        this.fields = schema.getFields().toArray(new Field<?>[0]);
+        this.columns = new int[fields.length];
+        this.constrained = new boolean[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            if (null == mapping) {
+                columns[i] = i;
+            } else {
+                Integer column = mapping.get(i);
+                columns[i] = (null != column) ? column : -1;
+            }
+            Map<String, Object> constraints = fields[i].getConstraints();
+            constrained[i] = (null != constraints) && !constraints.isEmpty();
+        }
+    }
+
+    /**
+     * @return the number of Schema fields, the length of the values of a row
+     */
+    int getFieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * Check one row and add its errors to `errors`
+     * @param row the raw row
+     * @param rowNumber the 1-based number of the row
+     * @param errors the list to add errors to
+     * @param values receives the cast values in the order of the Schema fields, `null` for missing values and
+     *               {@link #UNCAST} for cells that can't be cast. May be `null` if the values are not needed
+     */
+    void check(String[] row, long rowNumber, List<ValidationError> errors, Object[] values) {
+        for (int i = 0; i < fields.length; i++) {
+            int column = columns[i];
+            String raw = ((column >= 0) && (column < row.length)) ? row[column] : null;
+            Field<?> field = fields[i];
+            Object value = null;
+            boolean cast = true;
+            try {
+                value = (null == raw) ? null : field.castValue(raw, false);
+            } catch (InvalidCastException ex) {
+                errors.add(new ValidationError(rowNumber, field.getName(), ValidationError.TYPE, raw,
+                        "Value '" + raw + "' is not of type '" + field.getType() + "'"));
+                cast = false;
+            }
+            if (null != values) {
+                values[i] = cast ? value : UNCAST;
+            }
+            if (cast && constrained[i]) {
+                checkConstraints(field, raw, value, rowNumber, errors);
+            }
+        }
+    }
+
+    private static void checkConstraints(Field<?> field, String raw, Object value, long rowNumber,
+                                         List<ValidationError> errors) {
+        if (null == value) {
+            // the other constraints do not apply to missing values
+            if (Boolean.TRUE.equals(field.getConstraints().get(Field.CONSTRAINT_KEY_REQUIRED))) {
+                errors.add(new ValidationError(rowNumber, field.getName(), Field.CONSTRAINT_KEY_REQUIRED, raw,
+                        "Value is required"));
+            }
+            return;
+        }
+        Map<String, Object> violations = field.checkConstraintViolations(value);
+        if (violations.isEmpty()) {
+            return;
+        }
+        // report several violations of one value in a stable order
+        for (Map.Entry<String, Object> violation : new TreeMap<>(violations).entrySet()) {
+            errors.add(new ValidationError(rowNumber, field.getName(), violation.getKey(), raw,
+                    "Value '" + raw + "' violates constraint '" + violation.getKey() + "' ("
+                            + violation.getValue() + ")"));
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableIOException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.exception.TableValidationException;
+import io.frictionlessdata.tableschema.fk.ForeignKey;
+import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.tabledatasource.MappedCsvTableDataSource;
+import io.frictionlessdata.tableschema.tabledatasource.TableDataSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Validates the data of a {@link Table} against its {@link Schema} in one streaming pass: every cell is cast to
+ * the type of its Field and checked against the Field's constraints. Unlike reading the Table, which stops at
+ * the first cell that can't be cast, validation goes on and collects structured {@link ValidationError}s.
+ *
+ * Apart from the uniqueness indexes, only the current row and the errors are held in memory. The number of
+ * errors collected is capped, and in {@link Mode#FAIL_FAST} mode validation stops at the first error.
+ *
+ * Fields with the `unique` constraint and the primary key are checked across rows with an index of their values,
+ * reported with the constraint names `unique` and `primaryKey`. The index is kept off-heap and spills to
+ * temporary files when it outgrows the memory budget. Duplicates found after spilling are only known at the end
+ * of the data, so they don't count towards stopping validation early.
+ *
+ * Before the data, the headers are checked like {@link Table#validateHeaders()} does; failures are reported as
+ * errors with the constraint name {@link ValidationError#HEADER} or {@link ValidationError#SCHEMA} and row number 0.
+ *
+ * After all rows were checked below the error limit, self-referencing foreign keys are checked with a
+ * {@link ReferenceIndex} in two more passes over the data. Keys that are not found are reported at their row with
+ * the constraint name {@link ValidationError#FOREIGN_KEY}, foreign keys that can't be checked with the constraint
+ * name {@link ValidationError#SCHEMA}. Foreign keys to other resources are skipped, their data is not known.
+ */
+public class TableValidator {
+    /**
+     * The default maximum number of errors collected
+     */
+    public static final int DEFAULT_MAX_ERRORS = 1000;
+    /**
+     * The number of rows checked in one task when validating in parallel
+     */
+    public static final int BATCH_SIZE = 1024;
+    /**
+     * The default memory budget of the index of each unique Field and of the primary key, in bytes
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = UniqueIndex.DEFAULT_MEMORY_BUDGET;
+
+    public enum Mode {
+        /**
+         * Stop at the first error
+         */
+        FAIL_FAST,
+        /**
+         * Check all rows and collect errors up to the maximum number of errors
+         */
+        COLLECT_ALL
+    }
+
+    private final Mode mode;
+    private final int maxErrors;
+    private final long memoryBudget;
+
+    /**
+     * Create a validator that collects up to {@link #DEFAULT_MAX_ERRORS} errors
+     */
+    public TableValidator() {
+        this(Mode.COLLECT_ALL, DEFAULT_MAX_ERRORS);
+    }
+
+    /**
+     * Create a validator
+     * @param mode whether to stop at the first error or collect them
+     * @param maxErrors the maximum number of errors to collect, validation stops when it is reached.
+     *                  Ignored in {@link Mode#FAIL_FAST} mode
+     */
+    public TableValidator(Mode mode, int maxErrors) {
+        this(mode, maxErrors, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Create a validator
+     * @param mode whether to stop at the first error or collect them
+     * @param maxErrors the maximum number of errors to collect, validation stops when it is reached.
+     *                  Ignored in {@link Mode#FAIL_FAST} mode
+     * @param memoryBudget the number of bytes the index of each unique Field and of the primary key may use
+     *                     before it spills to disk
+     */
+    public TableValidator(Mode mode, int maxErrors, long memoryBudget) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("Maximum number of errors must be positive: " + maxErrors);
+        }
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget must not be negative: " + memoryBudget);
+        }
+        this.mode = mode;
+        this.maxErrors = maxErrors;
+        this.memoryBudget = memoryBudget;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * The number of errors after which validation stops
+     */
+    int getErrorLimit() {
+        return (mode == Mode.FAIL_FAST) ? 1 : maxErrors;
+    }
+
+    /**
+     * Validate the data of `table`. Tables without Schema have nothing to be validated against and yield a
+     * valid report without reading the data.
+     * @param table the Table to validate
+     * @return the validation report
+     */
+    public ValidationReport validate(Table table) {
+        return validate(table, null);
+    }
+
+    /**
+     * Validate the data of `table` in parallel on `pool`. The calling thread reads the raw rows from the
+     * data source in batches of {@value #BATCH_SIZE} rows, which are cast and checked as separate tasks on the
+     * pool. At most two batches per thread of the pool are held in memory. Errors are merged in the order of
+     * the rows, so the report is the same as the one of {@link #validate(Table)}. Unique constraints are
+     * checked on the calling thread while merging.
+     * @param table the Table to validate
+     * @param pool the pool to check the rows on, or `null` to check them on the calling thread
+     * @return the validation report
+     */
+    public ValidationReport validate(Table table, ForkJoinPool pool) {
+        List<ValidationError> errors = new ArrayList<>();
+        Schema schema = table.getSchema();
+        if (null == schema) {
+            return new ValidationReport(errors, 0, true);
+        }
+        int limit = getErrorLimit();
+        if (!checkHeaders(table, errors, limit)) {
+            return new ValidationReport(errors, 0, false);
+        }
+        Map<Integer, Integer> mapping;
+        try {
+            mapping = table.getSchemaHeaderMapping();
+        } catch (TableValidationException ex) {
+            // the fields can't be mapped to the headers, so the rows can't be checked
+            addHeaderError(errors, ex);
+            return new ValidationReport(errors, 0, false);
+        }
+
+        RowChecker checker = new RowChecker(schema, mapping);
+        UniquenessChecker uniqueness = UniquenessChecker.forSchema(schema, memoryBudget);
+        Iterator<String[]> iter = rawIterator(table, mapping);
+        ValidationReport report;
+        try {
+            report = (null == pool)
+                    ? checkRows(iter, checker, uniqueness, errors, limit)
+                    : checkRowsParallel(iter, checker, uniqueness, errors, limit, pool);
+        } finally {
+            if (null != uniqueness) {
+                uniqueness.close();
+            }
+            close(iter);
+        }
+        return checkForeignKeys(table, report, limit);
+    }
+
+    private static ValidationReport checkRows(Iterator<String[]> iter, RowChecker checker,
+                                              UniquenessChecker uniqueness, List<ValidationError> errors,
+                                              int limit) {
+        Object[] values = (null == uniqueness) ? null : new Object[checker.getFieldCount()];
+        long rowNumber = 0;
+        while (iter.hasNext()) {
+            String[] row = iter.next();
+            rowNumber++;
+            checker.check(row, rowNumber, errors, values);
+            if (null != uniqueness) {
+                uniqueness.check(values, rowNumber, errors);
+            }
+            if (errors.size() >= limit) {
+                return report(errors, rowNumber, !iter.hasNext(), uniqueness, limit);
+            }
+        }
+        return report(errors, rowNumber, true, uniqueness, limit);
+    }
+
+    private static ValidationReport checkRowsParallel(Iterator<String[]> iter, RowChecker checker,
+                                                      UniquenessChecker uniqueness, List<ValidationError> errors,
+                                                      int limit, ForkJoinPool pool) {
+        int window = Math.max(1, pool.getParallelism() * 2);
+        Deque<Future<Batch>> pending = new ArrayDeque<>();
+        long rowNumber = 0;
+        boolean endOfData = false;
+        try {
+            while (true) {
+                while (!endOfData && (pending.size() < window)) {
+                    List<String[]> rows = new ArrayList<>(BATCH_SIZE);
+                    while ((rows.size() < BATCH_SIZE) && iter.hasNext()) {
+                        rows.add(iter.next());
+                    }
+                    endOfData = (rows.size() < BATCH_SIZE);
+                    if (!rows.isEmpty()) {
+                        long firstRowNumber = rowNumber + 1;
+                        rowNumber += rows.size();
+                        pending.add(pool.submit(() -> checkBatch(checker, rows, firstRowNumber,
+                                (null != uniqueness))));
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return report(errors, rowNumber, true, uniqueness, limit);
+                }
+                pending.poll().get().merge(uniqueness, errors);
+                if (errors.size() >= limit) {
+                    // stop after the row of the last error within the limit, like the sequential validation
+                    long lastRowNumber = errors.get(limit - 1).getRowNumber();
+                    errors.removeIf((e) -> e.getRowNumber() > lastRowNumber);
+                    boolean lastRow = (lastRowNumber == rowNumber) && (endOfData || !iter.hasNext());
+                    return report(errors, lastRowNumber, lastRow, uniqueness, limit);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TableIOException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new TableIOException(ex.getCause());
+        } finally {
+            pending.forEach((f) -> f.cancel(true));
+        }
+    }
+
+    private static Batch checkBatch(RowChecker checker, List<String[]> rows, long firstRowNumber,
+                                    boolean keepValues) {
+        Batch batch = new Batch(firstRowNumber, keepValues ? new Object[rows.size()][] : null);
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] values = null;
+            if (keepValues) {
+                values = new Object[checker.getFieldCount()];
+                batch.values[i] = values;
+            }
+            checker.check(rows.get(i), firstRowNumber + i, batch.errors, values);
+        }
+        return batch;
+    }
+
+    /**
+     * The errors of a batch of rows checked on the pool, and the cast values if unique constraints must be checked
+     */
+    private static final class Batch {
+        private final long firstRowNumber;
+        private final List<ValidationError> errors = new ArrayList<>();
+        private final Object[][] values;
+
+        private Batch(long firstRowNumber, Object[][] values) {
+            this.firstRowNumber = firstRowNumber;
+            this.values = values;
+        }
+
+        /**
+         * Add the errors of the batch to `errors`, with the uniqueness errors of each row after its other errors
+         */
+        private void merge(UniquenessChecker uniqueness, List<ValidationError> target) {
+            if (null == uniqueness) {
+                target.addAll(errors);
+                return;
+            }
+            int next = 0;
+            for (int i = 0; i < values.length; i++) {
+                long rowNumber = firstRowNumber + i;
+                while ((next < errors.size()) && (errors.get(next).getRowNumber() == rowNumber)) {
+                    target.add(errors.get(next++));
+                }
+                uniqueness.check(values[i], rowNumber, target);
+            }
+        }
+    }
+
+    /**
+     * Create the report. Duplicates that were only found after a uniqueness index spilled to disk are added in
+     * row order before the errors are capped.
+     * @param allRows true if no rows follow `rowCount`
+     */
+    private static ValidationReport report(List<ValidationError> errors, long rowCount, boolean allRows,
+                                           UniquenessChecker uniqueness, int limit) {
+        if (null != uniqueness) {
+            List<ValidationError> spilled = new ArrayList<>();
+            uniqueness.finish(spilled);
+            spilled.removeIf((e) -> e.getRowNumber() > rowCount);
+            if (!spilled.isEmpty()) {
+                errors.addAll(spilled);
+                errors.sort(Comparator.comparingLong(ValidationError::getRowNumber));
+            }
+        }
+        boolean complete = allRows && (errors.size() <= limit);
+        return new ValidationReport(truncate(errors, limit), rowCount, complete);
+    }
+
+    /**
+     * Check the foreign keys of the Schema after the rows, unless the rows were not all checked or reached the
+     * error limit. Each foreign key is probed for up to one error more than the limit, as its earlier errors may
+     * rank before the errors of the rows; the errors are then merged in row order and capped.
+     */
+    private static ValidationReport checkForeignKeys(Table table, ValidationReport report, int limit) {
+        List<ForeignKey> foreignKeys = table.getSchema().getForeignKeys();
+        if (foreignKeys.isEmpty() || !report.isComplete() || (report.getErrors().size() >= limit)) {
+            return report;
+        }
+        List<ValidationError> errors = new ArrayList<>(report.getErrors());
+        for (ForeignKey fk : foreignKeys) {
+            List<ValidationError> fkErrors = new ArrayList<>();
+            checkForeignKey(table, fk, fkErrors, limit);
+            errors.addAll(fkErrors);
+        }
+        errors.sort(Comparator.comparingLong(ValidationError::getRowNumber));
+        return new ValidationReport(truncate(errors, limit), report.getRowCount(), errors.size() <= limit);
+    }
+
+    /**
+     * Add an error for each row whose key is not found in the referenced fields to the empty list `errors`,
+     * stops after one error more than the limit
+     */
+    private static void checkForeignKey(Table table, ForeignKey fk, List<ValidationError> errors, int limit) {
+        try {
+            fk.validate();
+            if (!fk.getErrors().isEmpty()) {
+                errors.add(schemaError(fk.getErrors().get(0)));
+                return;
+            }
+            if (!"".equals(fk.getReference().getResource())) {
+                return;
+            }
+            List<String> fieldNames = fk.getFieldNames();
+            List<String> referencedNames = fk.getReference().getFieldNames();
+            // a foreign key on one Field is named after it, a composite one is not about one Field
+            String fieldName = (fieldNames.size() == 1) ? fieldNames.get(0) : null;
+            int[] parts = new int[fieldNames.size()];
+            Arrays.setAll(parts, (i) -> i);
+            try (ReferenceIndex index = ReferenceIndex.build(table, referencedNames)) {
+                index.probe(table, fieldNames, (rowNumber, key) -> {
+                    String value = UniquenessChecker.text(key, parts);
+                    errors.add(new ValidationError(rowNumber, fieldName, ValidationError.FOREIGN_KEY, value,
+                            "Foreign key " + fieldNames + " -> " + referencedNames + " violation: '" + value
+                                    + "' not found"));
+                    return errors.size() <= limit;
+                });
+            }
+        } catch (TableSchemaException ex) {
+            errors.add(schemaError(ex));
+        }
+    }
+
+    /**
+     * Check the headers like {@link Table#validateHeaders()} and that the primary key fields exist, returns false
+     * if validation should stop
+     */
+    static boolean checkHeaders(Table table, List<ValidationError> errors, int limit) {
+        try {
+            table.validateHeaders();
+        } catch (TableValidationException ex) {
+            addHeaderError(errors, ex);
+        } catch (TableSchemaException ex) {
+            errors.add(schemaError(ex));
+        }
+        Schema schema = table.getSchema();
+        for (String part : schema.getPrimaryKeyParts()) {
+            if (null == schema.getField(part)) {
+                errors.add(new ValidationError(0, null, ValidationError.SCHEMA, null,
+                        "Primary key field " + part + " not found"));
+            }
+        }
+        return errors.size() < limit;
+    }
+
+    private static ValidationError schemaError(TableSchemaException ex) {
+        return new ValidationError(0, null, ValidationError.SCHEMA, null, ex.getMessage());
+    }
+
+    /**
+     * Add a header error for `ex` unless there already is one
+     */
+    static void addHeaderError(List<ValidationError> errors, TableValidationException ex) {
+        if (errors.stream().noneMatch((e) -> e.getConstraint().equals(ValidationError.HEADER))) {
+            errors.add(new ValidationError(0, null, ValidationError.HEADER, null, ex.getMessage()));
+        }
+    }
+
+    /**
+     * Iterator over the raw rows. For mapped CSV data, only the cells that get cast are turned into Strings.
+     */
+    static Iterator<String[]> rawIterator(Table table, Map<Integer, Integer> mapping) {
+        TableDataSource ds = table.getTableDataSource();
+        if ((null != mapping) && (ds instanceof MappedCsvTableDataSource)) {
+            return ((MappedCsvTableDataSource) ds).iterator(mapping.values());
+        }
+        return ds.iterator();
+    }
+
+    static List<ValidationError> truncate(List<ValidationError> errors, int limit) {
+        return (errors.size() > limit) ? new ArrayList<>(errors.subList(0, limit)) : errors;
+    }
+
+    static void close(Iterator<String[]> iter) {
+        if (iter instanceof Closeable) {
+            try {
+                ((Closeable) iter).close();
+            } catch (IOException ex) {
+                throw new TableIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.exception.TableIOException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of keys that remembers the row number of the first occurrence of each key, to find duplicate values
+ * in a single pass over the data.
+ *
+ * Keys are either exact `long` values, which is the way to go for integral numbers, or byte sequences. Byte
+ * keys are stored by their 64-bit hash; on a hash match, the stored bytes are compared to rule out collisions.
+ *
+ * The index is an open-addressing hash table with linear probing. Both the table and the key bytes are held in
+ * direct (off-heap) buffers. Once they grow past the memory budget, the index spills: all keys, and all keys
+ * added after that, are written to temporary files partitioned by hash. Duplicates among spilled keys are found
+ * in {@link #finish(DuplicateConsumer)}, which loads one partition at a time. Keys can only be looked up with
+ * the `find` methods as long as the index has not spilled.
+ */
+final class UniqueIndex implements Closeable {
+    /**
+     * Default memory budget per index, in bytes
+     */
+    static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    // per slot: the exact key or the hash, the row number, the offset of the key bytes or EXACT
+    private static final int SLOT_BYTES = 24;
+    private static final long EXACT = -1L;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    // the largest power of two of slots that fits in one buffer
+    private static final int MAX_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE / SLOT_BYTES);
+    /**
+     * The maximum number of keys held in memory, regardless of the memory budget
+     */
+    static final int MAX_KEYS = MAX_CAPACITY / 2;
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int PARTITION_BITS = 6;
+
+    private final long memoryBudget;
+    private final boolean spillable;
+    private ByteBuffer slots;
+    private int capacity;
+    private int size = 0;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long chunkBytes = 0;
+    private File spillDirectory = null;
+    private DataOutputStream[] partitions = null;
+
+    /**
+     * Receives duplicates found in spilled keys
+     */
+    interface DuplicateConsumer {
+        /**
+         * @param rowNumber the row number of the duplicate
+         * @param firstRowNumber the row number of the first occurrence of the key
+         * @param exactKey the key if it is an exact key
+         * @param key the key bytes, `null` for exact keys
+         */
+        void duplicate(long rowNumber, long firstRowNumber, long exactKey, byte[] key);
+    }
+
+    /**
+     * @param memoryBudget the number of bytes the index may use before it spills to disk
+     */
+    UniqueIndex(long memoryBudget) {
+        this(memoryBudget, true);
+    }
+
+    /**
+     * @param memoryBudget the number of bytes the index may use before it spills to disk
+     * @param spillable if false, the index throws instead of spilling, so keys can always be looked up
+     */
+    UniqueIndex(long memoryBudget, boolean spillable) {
+        this.memoryBudget = memoryBudget;
+        this.spillable = spillable;
+        allocateSlots(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Add an exact key
+     * @param key the key
+     * @param rowNumber the row number of the key, must be positive
+     * @return the row number of the first occurrence if the key is a duplicate, otherwise -1. Always -1 once
+     * the index has spilled
+     */
+    long add(long key, long rowNumber) {
+        if (null != partitions) {
+            spill(key, rowNumber, null);
+            return -1;
+        }
+        int mask = capacity - 1;
+        for (int slot = (int) mix(key) & mask; ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_BYTES;
+            long row = slots.getLong(base + 8);
+            if (row == 0) {
+                insert(base, key, rowNumber, EXACT);
+                return -1;
+            }
+            if ((slots.getLong(base + 16) == EXACT) && (slots.getLong(base) == key)) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Add a key of bytes
+     * @param key the key
+     * @param rowNumber the row number of the key, must be positive
+     * @return the row number of the first occurrence if the key is a duplicate, otherwise -1. Always -1 once
+     * the index has spilled
+     */
+    long add(byte[] key, long rowNumber) {
+        long hash = hash(key);
+        if (null != partitions) {
+            spill(hash, rowNumber, key);
+            return -1;
+        }
+        int mask = capacity - 1;
+        for (int slot = (int) mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_BYTES;
+            long row = slots.getLong(base + 8);
+            if (row == 0) {
+                insert(base, hash, rowNumber, store(key));
+                return -1;
+            }
+            long offset = slots.getLong(base + 16);
+            if ((offset != EXACT) && (slots.getLong(base) == hash) && storedEquals(offset, key)) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Look up an exact key
+     * @param key the key
+     * @return the row number of the key, or -1 if it is not in the index
+     * @throws IllegalStateException if the index has spilled
+     */
+    long find(long key) {
+        checkNotSpilled();
+        int mask = capacity - 1;
+        for (int slot = (int) mix(key) & mask; ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_BYTES;
+            long row = slots.getLong(base + 8);
+            if (row == 0) {
+                return -1;
+            }
+            if ((slots.getLong(base + 16) == EXACT) && (slots.getLong(base) == key)) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Look up a key of bytes
+     * @param key the key
+     * @return the row number of the key, or -1 if it is not in the index
+     * @throws IllegalStateException if the index has spilled
+     */
+    long find(byte[] key) {
+        checkNotSpilled();
+        long hash = hash(key);
+        int mask = capacity - 1;
+        for (int slot = (int) mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_BYTES;
+            long row = slots.getLong(base + 8);
+            if (row == 0) {
+                return -1;
+            }
+            long offset = slots.getLong(base + 16);
+            if ((offset != EXACT) && (slots.getLong(base) == hash) && storedEquals(offset, key)) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * @return true if the index has spilled to disk
+     */
+    boolean isSpilled() {
+        return (null != partitions);
+    }
+
+    /**
+     * Find the duplicates among spilled keys, partition by partition. Does nothing if the index has not
+     * spilled, as all duplicates have been returned by the `add` methods then.
+     * @param consumer receives the duplicates
+     */
+    void finish(DuplicateConsumer consumer) {
+        if (null == partitions) {
+            return;
+        }
+        try {
+            for (DataOutputStream partition : partitions) {
+                partition.close();
+            }
+            for (int i = 0; i < partitions.length; i++) {
+                File file = partitionFile(i);
+                // keys were written in row order, so the first occurrence is always added first
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                     UniqueIndex index = new UniqueIndex(Long.MAX_VALUE)) {
+                    int kind;
+                    while ((kind = in.read()) != -1) {
+                        long hashOrKey = in.readLong();
+                        long rowNumber = in.readLong();
+                        byte[] key = null;
+                        long first;
+                        if (kind == 0) {
+                            first = index.add(hashOrKey, rowNumber);
+                        } else {
+                            key = new byte[in.readInt()];
+                            in.readFully(key);
+                            first = index.add(key, rowNumber);
+                        }
+                        if (first > 0) {
+                            consumer.duplicate(rowNumber, first, hashOrKey, key);
+                        }
+                    }
+                }
+                Files.deleteIfExists(file.toPath());
+            }
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Release the buffers and delete the spill files
+     */
+    @Override
+    public void close() {
+        slots = null;
+        chunks.clear();
+        if (null != spillDirectory) {
+            for (int i = 0; i < partitions.length; i++) {
+                // streams are missing if opening the partitions failed partway
+                if (null != partitions[i]) {
+                    try {
+                        partitions[i].close();
+                    } catch (IOException ex) {
+                        // deleted anyway
+                    }
+                }
+                partitionFile(i).delete();
+            }
+            spillDirectory.delete();
+            spillDirectory = null;
+        }
+    }
+
+    private void checkNotSpilled() {
+        if (null != partitions) {
+            throw new IllegalStateException("Keys can't be looked up after the index has spilled to disk");
+        }
+    }
+
+    private void allocateSlots(int newCapacity) {
+        slots = ByteBuffer.allocateDirect(newCapacity * SLOT_BYTES);
+        capacity = newCapacity;
+    }
+
+    private void insert(int base, long hashOrKey, long rowNumber, long offset) {
+        slots.putLong(base, hashOrKey);
+        slots.putLong(base + 8, rowNumber);
+        slots.putLong(base + 16, offset);
+        size++;
+        if ((size * 2L > capacity)) {
+            long grownBytes = 2L * capacity * SLOT_BYTES;
+            if ((capacity >= MAX_CAPACITY) || (grownBytes + chunkBytes > memoryBudget)) {
+                startSpilling();
+            } else {
+                grow();
+            }
+        } else if ((long) capacity * SLOT_BYTES + chunkBytes > memoryBudget) {
+            startSpilling();
+        }
+    }
+
+    private void grow() {
+        ByteBuffer old = slots;
+        int oldCapacity = capacity;
+        allocateSlots(capacity * 2);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            int oldBase = i * SLOT_BYTES;
+            long row = old.getLong(oldBase + 8);
+            if (row == 0) {
+                continue;
+            }
+            long hashOrKey = old.getLong(oldBase);
+            int slot = (int) mix(hashOrKey) & mask;
+            while (slots.getLong(slot * SLOT_BYTES + 8) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            int base = slot * SLOT_BYTES;
+            slots.putLong(base, hashOrKey);
+            slots.putLong(base + 8, row);
+            slots.putLong(base + 16, old.getLong(oldBase + 16));
+        }
+    }
+
+    /**
+     * Store the key bytes, prefixed by their length, and return their offset: the chunk index in the upper
+     * and the position in the lower 32 bits
+     */
+    private long store(byte[] key) {
+        int length = 4 + key.length;
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if ((null == chunk) || (chunk.remaining() < length)) {
+            chunk = ByteBuffer.allocateDirect(Math.max(CHUNK_SIZE, length));
+            chunks.add(chunk);
+            chunkBytes += chunk.capacity();
+        }
+        int position = chunk.position();
+        chunk.putInt(key.length);
+        chunk.put(key);
+        return ((long) (chunks.size() - 1) << 32) | position;
+    }
+
+    private boolean storedEquals(long offset, byte[] key) {
+        ByteBuffer chunk = chunks.get((int) (offset >>> 32));
+        int position = (int) offset;
+        if (chunk.getInt(position) != key.length) {
+            return false;
+        }
+        position += 4;
+        for (int i = 0; i < key.length; i++) {
+            if (chunk.get(position + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] stored(long offset) {
+        ByteBuffer chunk = chunks.get((int) (offset >>> 32));
+        int position = (int) offset;
+        byte[] key = new byte[chunk.getInt(position)];
+        chunk.get(position + 4, key);
+        return key;
+    }
+
+    private void startSpilling() {
+        if (!spillable) {
+            throw new IllegalStateException("Index exceeds its memory budget or the maximum of "
+                    + MAX_KEYS + " keys");
+        }
+        try {
+            spillDirectory = Files.createTempDirectory("tableschema-unique").toFile();
+            partitions = new DataOutputStream[1 << PARTITION_BITS];
+            for (int i = 0; i < partitions.length; i++) {
+                partitions[i] = new DataOutputStream(new BufferedOutputStream(
+                        new FileOutputStream(partitionFile(i)), 1 << 14));
+            }
+        } catch (IOException ex) {
+            close();
+            throw new TableIOException(ex);
+        }
+        for (int i = 0; i < capacity; i++) {
+            int base = i * SLOT_BYTES;
+            long row = slots.getLong(base + 8);
+            if (row != 0) {
+                long offset = slots.getLong(base + 16);
+                spill(slots.getLong(base), row, (offset == EXACT) ? null : stored(offset));
+            }
+        }
+        slots = null;
+        chunks.clear();
+        chunkBytes = 0;
+    }
+
+    private void spill(long hashOrKey, long rowNumber, byte[] key) {
+        DataOutputStream out = partitions[(int) (mix(hashOrKey) >>> (64 - PARTITION_BITS))];
+        try {
+            out.write((null == key) ? 0 : 1);
+            out.writeLong(hashOrKey);
+            out.writeLong(rowNumber);
+            if (null != key) {
+                out.writeInt(key.length);
+                out.write(key);
+            }
+        } catch (IOException ex) {
+            throw new TableIOException(ex);
+        }
+    }
+
+    private File partitionFile(int partition) {
+        return new File(spillDirectory, "partition-" + partition);
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the bytes, finalized with {@link #mix(long)}
+     */
+    static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * The finalization step of MurmurHash3, spreads the bits of `h` over the whole long
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,288 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the `unique` constraints and the primary key of a Schema across the rows of a Table. Each unique Field
+ * and the primary key get a {@link UniqueIndex} of their cast values. Single integral values up to the range of
+ * `long`, including decimals without fraction, are indexed as exact keys, all other values by their canonical
+ * String form. Composite primary keys are encoded part by part: integral parts as a tag byte and 8 bytes, so keys
+ * of integral parts have a fixed width, other parts as a tag byte, their length and their UTF-8 bytes.
+ *
+ * Rows must be checked in row order on one thread. Duplicates are reported at the later row, with the row of the
+ * first occurrence in the message. Missing values are never duplicates of unique Fields; primary key values must
+ * not be missing. Keys with a cell that can't be cast are not checked, the cell is reported as a cast error.
+ */
+final class UniquenessChecker implements Closeable {
+    private static final byte EXACT_PART = 0;
+    private static final byte TEXT_PART = 1;
+    /**
+     * Returned by {@link #add(UniqueIndex, Object[], int[], long)} if a part of the key is missing
+     */
+    static final long MISSING = 0;
+
+    private final List<Key> keys = new ArrayList<>();
+
+    private static final class Key {
+        private final String constraint;
+        private final String fieldName;
+        private final int[] fields;
+        private final UniqueIndex index;
+
+        private Key(String constraint, String fieldName, int[] fields, long memoryBudget) {
+            this.constraint = constraint;
+            this.fieldName = fieldName;
+            this.fields = fields;
+            this.index = new UniqueIndex(memoryBudget);
+        }
+
+        private boolean isPrimaryKey() {
+            return Schema.JSON_KEY_PRIMARY_KEY.equals(constraint);
+        }
+    }
+
+    private UniquenessChecker() {
+    }
+
+    /**
+     * Create a checker for the unique Fields and the primary key of `schema`
+     * @param schema the Schema
+     * @param memoryBudget the memory budget of each index in bytes
+     * @return the checker, or `null` if the Schema has nothing to check
+     */
+    static UniquenessChecker forSchema(Schema schema, long memoryBudget) {
+        UniquenessChecker checker = new UniquenessChecker();
+        List<Field<?>> fields = schema.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            Field<?> field = fields.get(i);
+            if ((null != field.getConstraints())
+                    && Boolean.TRUE.equals(field.getConstraints().get(Field.CONSTRAINT_KEY_UNIQUE))) {
+                checker.keys.add(new Key(Field.CONSTRAINT_KEY_UNIQUE, field.getName(), new int[]{i}, memoryBudget));
+            }
+        }
+        List<String> primaryKey = schema.getPrimaryKeyParts();
+        if (!primaryKey.isEmpty()) {
+            int[] parts = new int[primaryKey.size()];
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = fields.indexOf(schema.getField(primaryKey.get(i)));
+            }
+            // a primary key on a missing Field is a Schema error, reported before the data is checked
+            if (Arrays.stream(parts).noneMatch((p) -> p < 0)) {
+                // a primary key on one Field is named after it, a composite one is not about one Field
+                String name = (parts.length == 1) ? primaryKey.get(0) : null;
+                checker.keys.add(new Key(Schema.JSON_KEY_PRIMARY_KEY, name, parts, memoryBudget));
+            }
+        }
+        return checker.keys.isEmpty() ? null : checker;
+    }
+
+    /**
+     * Check the cast values of one row and add errors for duplicates to `errors`
+     * @param values the cast values of the row, in the order of the Schema fields, {@link RowChecker#UNCAST} for
+     *               cells that can't be cast
+     * @param rowNumber the 1-based number of the row
+     * @param errors the list to add errors to
+     */
+    void check(Object[] values, long rowNumber, List<ValidationError> errors) {
+        for (Key key : keys) {
+            if (isUncast(values, key.fields)) {
+                continue;
+            }
+            long first = add(key.index, values, key.fields, rowNumber);
+            if (first == MISSING) {
+                if (key.isPrimaryKey()) {
+                    errors.add(missing(key, rowNumber));
+                }
+            } else if (first > 0) {
+                errors.add(duplicate(key, rowNumber, first, text(values, key.fields)));
+            }
+        }
+    }
+
+    private static boolean isUncast(Object[] values, int[] fields) {
+        for (int field : fields) {
+            if (values[field] == RowChecker.UNCAST) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add the key made of the `fields` of `values` to `index`
+     * @return the row number of the first occurrence if the key is a duplicate, {@link #MISSING} if a part of the
+     * key is missing, otherwise -1
+     */
+    static long add(UniqueIndex index, Object[] values, int[] fields, long rowNumber) {
+        if (fields.length == 1) {
+            Object value = values[fields[0]];
+            if (null == value) {
+                return MISSING;
+            }
+            return isExact(value)
+                    ? index.add(exact(value), rowNumber)
+                    : index.add(canonical(value).getBytes(StandardCharsets.UTF_8), rowNumber);
+        }
+        byte[] key = encode(values, fields);
+        return (null == key) ? MISSING : index.add(key, rowNumber);
+    }
+
+    /**
+     * Look up the key made of the `fields` of `values` in `index`
+     * @return the row number of the key, {@link #MISSING} if a part of the key is missing, otherwise -1
+     */
+    static long find(UniqueIndex index, Object[] values, int[] fields) {
+        if (fields.length == 1) {
+            Object value = values[fields[0]];
+            if (null == value) {
+                return MISSING;
+            }
+            return isExact(value)
+                    ? index.find(exact(value))
+                    : index.find(canonical(value).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] key = encode(values, fields);
+        return (null == key) ? MISSING : index.find(key);
+    }
+
+    /**
+     * Encode a composite key, or return `null` if a part is missing
+     */
+    private static byte[] encode(Object[] values, int[] fields) {
+        byte[][] text = new byte[fields.length][];
+        int length = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = values[fields[i]];
+            if (null == value) {
+                return null;
+            }
+            if (isExact(value)) {
+                length += 9;
+            } else {
+                text[i] = canonical(value).getBytes(StandardCharsets.UTF_8);
+                length += 5 + text[i].length;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (int i = 0; i < fields.length; i++) {
+            if (null == text[i]) {
+                buffer.put(EXACT_PART).putLong(exact(values[fields[i]]));
+            } else {
+                buffer.put(TEXT_PART).putInt(text[i].length).put(text[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * The key made of the `fields` of `values` as a String, the parts separated by ", "
+     */
+    static String text(Object[] values, int[] fields) {
+        StringBuilder sb = new StringBuilder();
+        for (int field : fields) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(canonical(values[field]));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Add errors for the duplicates that were only found after spilling to disk. They are not in row order.
+     * @param errors the list to add errors to
+     */
+    void finish(List<ValidationError> errors) {
+        for (Key key : keys) {
+            key.index.finish((rowNumber, firstRowNumber, exactKey, bytes) -> errors.add(duplicate(key, rowNumber,
+                    firstRowNumber, (null == bytes) ? Long.toString(exactKey) : decode(key, bytes))));
+        }
+    }
+
+    @Override
+    public void close() {
+        keys.forEach((k) -> k.index.close());
+    }
+
+    private static ValidationError duplicate(Key key, long rowNumber, long firstRowNumber, String value) {
+        return new ValidationError(rowNumber, key.fieldName, key.constraint, value,
+                (key.isPrimaryKey() ? "Primary key " : "Value ") + "'" + value
+                        + "' is not unique, it first occurs in row " + firstRowNumber);
+    }
+
+    private static ValidationError missing(Key key, long rowNumber) {
+        return new ValidationError(rowNumber, key.fieldName, key.constraint, null,
+                "Primary key value is missing");
+    }
+
+    /**
+     * Returns whether `value` is an integral number in the range of `long`, including decimals without
+     * fraction like `1.0` or `1E3`, so they share the exact key of the equal integer
+     */
+    private static boolean isExact(Object value) {
+        if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short)
+                || (value instanceof Byte)) {
+            return true;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() < Long.SIZE;
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return (decimal.stripTrailingZeros().scale() <= 0) && (decimal.toBigInteger().bitLength() < Long.SIZE);
+        }
+        return false;
+    }
+
+    /**
+     * The exact key of a value for which {@link #isExact(Object)} is true
+     */
+    private static long exact(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * The String form of a cast value that is equal for equal values, e.g. `1.0` and `1.00` are the same number
+     */
+    static String canonical(Object value) {
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return (decimal.signum() == 0) ? "0" : decimal.stripTrailingZeros().toPlainString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * The key bytes as a String, the parts of composite keys separated by ", "
+     */
+    private static String decode(Key key, byte[] bytes) {
+        if (key.fields.length == 1) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        StringBuilder sb = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            if (buffer.get() == EXACT_PART) {
+                sb.append(buffer.getLong());
+            } else {
+                int length = buffer.getInt();
+                sb.append(new String(bytes, buffer.position(), length, StandardCharsets.UTF_8));
+                buffer.position(buffer.position() + length);
+            }
+        }
+        return sb.toString();
+    }
+}
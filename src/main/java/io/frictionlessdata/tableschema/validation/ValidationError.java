@@ -0,0 +1,90 @@
+package io.frictionlessdata.tableschema.validation;
+
+import java.util.Objects;
+
+/**
+ * One error found while validating the data of a Table: a cell that cannot be cast to the type of its Field,
+ * or a value that violates a constraint.
+ */
+public final class ValidationError {
+    /**
+     * Constraint name of errors where a value cannot be cast to the type of its Field
+     */
+    public static final String TYPE = "type";
+    /**
+     * Constraint name of errors where the headers of the data do not match the Schema
+     */
+    public static final String HEADER = "header";
+    /**
+     * Constraint name of errors where the Schema validation of the Table failed, e.g. on foreign keys
+     */
+    public static final String SCHEMA = "schema";
+    /**
+     * Constraint name of errors where the key of a row is not found in the fields its foreign key references
+     */
+    public static final String FOREIGN_KEY = "foreignKey";
+
+    private final long rowNumber;
+    private final String fieldName;
+    private final String constraint;
+    private final String value;
+    private final String message;
+
+    /**
+     * @param rowNumber the 1-based number of the data row, not counting a header row, or 0 for errors that are
+     *                  not about a row
+     * @param fieldName the name of the Field the value belongs to, or `null` if the error is not about one Field
+     * @param constraint the name of the violated constraint, {@link #TYPE} for cast errors
+     * @param value the value as found in the data
+     * @param message a human-readable description
+     */
+    public ValidationError(long rowNumber, String fieldName, String constraint, String value, String message) {
+        this.rowNumber = rowNumber;
+        this.fieldName = fieldName;
+        this.constraint = constraint;
+        this.value = value;
+        this.message = message;
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getConstraint() {
+        return constraint;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValidationError that = (ValidationError) o;
+        return rowNumber == that.rowNumber
+                && Objects.equals(fieldName, that.fieldName)
+                && Objects.equals(constraint, that.constraint)
+                && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowNumber, fieldName, constraint, value);
+    }
+
+    @Override
+    public String toString() {
+        return "Row " + rowNumber + ((null != fieldName) ? ", field '" + fieldName + "'" : "")
+                + ", constraint '" + constraint + "': " + message;
+    }
+}
@@ -0,0 +1,55 @@
+package io.frictionlessdata.tableschema.validation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating the data of a Table with a {@link TableValidator}: the errors in row order and the
+ * number of rows checked.
+ */
+public final class ValidationReport {
+    private final List<ValidationError> errors;
+    private final long rowCount;
+    private final boolean complete;
+
+    ValidationReport(List<ValidationError> errors, long rowCount, boolean complete) {
+        this.errors = Collections.unmodifiableList(errors);
+        this.rowCount = rowCount;
+        this.complete = complete;
+    }
+
+    /**
+     * @return true if no errors were found
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * @return the errors found, ordered by row number
+     */
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return the number of data rows checked
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return false if validation stopped before the end of the data, because of fail-fast mode or because the
+     * maximum number of errors was reached
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport{rows=" + rowCount + ", errors=" + errors.size()
+                + (complete ? "" : ", incomplete") + "}";
+    }
+}
@@ -0,0 +1,109 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class ColumnarTableTest {
+
+    @Test
+    @DisplayName("Create a ColumnarTable and ensure column types and values match the Table")
+    void testFromTable() throws Exception {
+        File schemaFile = new File(getTestDataDirectory(), "schema/employee_full_schema.json");
+        Schema schema = Schema.fromJson(schemaFile, true);
+        Table table = Table.fromSource(new File("data/employee_full.csv"), getTestDataDirectory(), schema, null);
+        ColumnarTable columnar = ColumnarTable.fromTable(table);
+
+        Assertions.assertEquals(3, columnar.getRowCount());
+        Assertions.assertEquals(schema.getFields().size(), columnar.getColumnCount());
+        Assertions.assertInstanceOf(LongColumn.class, columnar.getColumn("age"));
+        Assertions.assertInstanceOf(DoubleColumn.class, columnar.getColumn("period_employed"));
+        Assertions.assertInstanceOf(BooleanColumn.class, columnar.getColumn("is_management"));
+        Assertions.assertInstanceOf(DictionaryColumn.class, columnar.getColumn("gender"));
+        Assertions.assertInstanceOf(ObjectColumn.class, columnar.getColumn("employment_start"));
+
+        DictionaryColumn gender = (DictionaryColumn) columnar.getColumn("gender");
+        Assertions.assertEquals(Arrays.asList("m", "f"), gender.getDictionary());
+        Assertions.assertEquals(1, gender.getCode(2));
+        Assertions.assertEquals(22, ((LongColumn) columnar.getColumn("age")).getLong(1));
+        Assertions.assertEquals(0.4, ((DoubleColumn) columnar.getColumn("period_employed")).getDouble(1));
+        Assertions.assertTrue(((BooleanColumn) columnar.getColumn("is_management")).getBoolean(2));
+
+        List<Object[]> expected = table.read();
+        int period = columnar.getColumnNames().indexOf("period_employed");
+        for (int i = 0; i < expected.size(); i++) {
+            Object[] row = columnar.getRow(i);
+            for (int j = 0; j < row.length; j++) {
+                if (j == period) {
+                    // number columns are held as doubles
+                    Assertions.assertEquals(((Number) expected.get(i)[j]).doubleValue(), row[j]);
+                } else {
+                    // `array` fields are cast to Object arrays
+                    Assertions.assertTrue(Objects.deepEquals(expected.get(i)[j], row[j]));
+                }
+            }
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> columnar.getColumn("salary"));
+    }
+
+    @Test
+    @DisplayName("Scan and project a ColumnarTable")
+    void testScanAndProject() throws Exception {
+        File schemaFile = new File(getTestDataDirectory(), "schema/employee_full_schema.json");
+        Schema schema = Schema.fromJson(schemaFile, true);
+        Table table = Table.fromSource(new File("data/employee_full.csv"), getTestDataDirectory(), schema, null);
+        ColumnarTable columnar = ColumnarTable.fromTable(table).project("first_name", "age", "gender");
+
+        Assertions.assertEquals(Arrays.asList("first_name", "age", "gender"), columnar.getColumnNames());
+        BitSet older = ((LongColumn) columnar.getColumn("age")).scanLong((age) -> age > 30);
+        BitSet male = columnar.getColumn("gender").scan("m"::equals);
+        older.and(male);
+        List<Object[]> rows = columnar.read(older);
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertArrayEquals(new Object[]{"John", BigInteger.valueOf(50), "m"}, rows.get(0));
+    }
+
+    @Test
+    @DisplayName("Compute column statistics of a ColumnarTable with null values")
+    void testStatistics() throws Exception {
+        Schema schema = Schema.fromJson(new File(getTestDataDirectory(), "schema/population_schema.json"), true);
+        Table table = Table.fromSource(
+                new File("data/population-null-values.csv"), getTestDataDirectory(), schema, null);
+        ColumnarTable columnar = ColumnarTable.fromTable(table);
+
+        ColumnStatistics population = columnar.getStatistics("population");
+        Assertions.assertEquals(5, population.getRowCount());
+        Assertions.assertEquals(1, population.getNullCount());
+        Assertions.assertEquals(BigInteger.valueOf(2240000L), population.getMin());
+        Assertions.assertEquals(BigInteger.valueOf(8780000L), population.getMax());
+        Assertions.assertEquals(17472820.0, population.getSum());
+        Assertions.assertEquals(17472820 / 4.0, population.getMean());
+        Assertions.assertEquals(4, population.getDistinctCount());
+        Assertions.assertTrue(columnar.getColumn("population").isNull(3));
+        Assertions.assertNull(columnar.getRow(3)[2]);
+
+        ColumnStatistics year = columnar.getStatistics("year");
+        Assertions.assertEquals(2, year.getNullCount());
+        Assertions.assertEquals(1, year.getDistinctCount());
+
+        ColumnStatistics city = columnar.getStatistics("city");
+        Assertions.assertEquals("berlin", city.getMin());
+        Assertions.assertEquals("rome", city.getMax());
+        Assertions.assertEquals(5, city.getDistinctCount());
+
+        Assertions.assertThrows(TableSchemaException.class,
+                () -> ColumnarTable.fromTable(Table.fromSource("a,b\n1,2")));
+    }
+}
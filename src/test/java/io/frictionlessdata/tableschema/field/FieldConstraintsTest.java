@@ -495,6 +495,25 @@ public class FieldConstraintsTest {
         Assertions.assertTrue(violatedConstraints.containsKey(Field.CONSTRAINT_KEY_PATTERN));
     }
 
+    @Test
+    @DisplayName("Change the pattern constraint after creating the Field and ensure the new pattern is used")
+    public void testPatternChanged(){
+        Map<String, Object> constraints = new HashMap<>();
+        constraints.put(Field.CONSTRAINT_KEY_PATTERN, "testing[0-9]+");
+        StringField field = new StringField("test", null, null, null, null, constraints, null, null);
+        Assertions.assertTrue(field.checkConstraintViolations("testing1").isEmpty());
+
+        field.getConstraints().put(Field.CONSTRAINT_KEY_PATTERN, "other[0-9]+");
+        Assertions.assertTrue(field.checkConstraintViolations("testing1").containsKey(Field.CONSTRAINT_KEY_PATTERN));
+        Assertions.assertTrue(field.checkConstraintViolations("other1").isEmpty());
+
+        Map<String, Object> newConstraints = new HashMap<>();
+        newConstraints.put(Field.CONSTRAINT_KEY_PATTERN, "new[0-9]+");
+        field.setConstraints(newConstraints);
+        Assertions.assertTrue(field.checkConstraintViolations("new1").isEmpty());
+        Assertions.assertTrue(field.checkConstraintViolations("other1").containsKey(Field.CONSTRAINT_KEY_PATTERN));
+    }
+
     @Test
     public void testEnumString(){
         Map<String, Object> violatedConstraints = null;
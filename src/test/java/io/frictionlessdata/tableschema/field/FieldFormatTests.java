@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -24,6 +25,20 @@ class FieldFormatTests {
         Assertions.assertEquals("false", val);
     }
 
+    @Test
+    @DisplayName("parse and format date values with a strptime format set after creating the Field")
+    void formatDateFieldCustomFormat() {
+        DateField field = new DateField("df");
+        field.setFormat("%d/%m/%Y");
+        LocalDate date = field.castValue("30/11/2014");
+        Assertions.assertEquals(LocalDate.of(2014, 11, 30), date);
+        Assertions.assertEquals("30/11/2014", field.formatValueAsString(date));
+
+        // a different format than the Field's one
+        Assertions.assertEquals(LocalDate.of(2014, 11, 30), field.parseValue("30-11-14", "%d-%m-%y", null));
+        assertThrows(TypeInferringException.class, () -> field.parseValue("30/11/2014", "%Q", null));
+    }
+
     @Test
     @DisplayName("format boolean values with non-default true/false values")
     void formatBooleanField2() {
@@ -1,10 +1,13 @@
 package io.frictionlessdata.tableschema.field;
 
+import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -84,4 +87,32 @@ class NumberFieldTest {
         String val = field.formatValueAsString(null, null, null);
         Assertions.assertNull( val);
     }
+
+    @Test
+    @DisplayName("parse number values with decimal and group chars, and values too large for a long")
+    void parseNumberField() {
+        NumberField field = new NumberField("test");
+        Assertions.assertEquals(new BigDecimal("1234567.89"), field.parseValue("1.234.567,89", null, germanOptions));
+        Assertions.assertEquals(new BigInteger("-1234567"), field.parseValue(" -1.234.567 ", null, germanOptions));
+        Assertions.assertEquals(new BigDecimal("-0.25"), field.parseValue("-.25", null, null));
+        Assertions.assertEquals(new BigDecimal("1E+3"), field.parseValue("1E3", null, null));
+        Assertions.assertEquals(new BigInteger("123456789012345678901234567890"),
+                field.parseValue("123456789012345678901234567890", null, null));
+        Assertions.assertEquals(new BigDecimal("1234567890123456789.0123456789"),
+                field.parseValue("1234567890123456789.0123456789", null, null));
+        Assertions.assertEquals(new BigDecimal("123.5"), field.parseValue("$123.5 USD", null, bareNumberOptions));
+        Assertions.assertEquals(Double.NaN, field.parseValue("NaN", null, null));
+        Assertions.assertThrows(TypeInferringException.class, () -> field.parseValue("1.2.3", null, null));
+    }
+
+    @Test
+    @DisplayName("parse integer values, also values too large for a long")
+    void parseIntegerField() {
+        IntegerField field = new IntegerField("test");
+        Assertions.assertEquals(new BigInteger("-42"), field.parseValue(" -42 ", null, null));
+        Assertions.assertEquals(new BigInteger("42"), field.parseValue("+42", null, null));
+        Assertions.assertEquals(new BigInteger("123456789012345678901234567890"),
+                field.parseValue("123456789012345678901234567890", null, null));
+        Assertions.assertThrows(TypeInferringException.class, () -> field.parseValue("4.2", null, null));
+    }
 }
@@ -4,8 +4,11 @@ package io.frictionlessdata.tableschema.fk;
 import io.frictionlessdata.tableschema.Table;
 import io.frictionlessdata.tableschema.TestHelper;
 import io.frictionlessdata.tableschema.exception.ForeignKeyException;
+import io.frictionlessdata.tableschema.exception.TableValidationException;
 import io.frictionlessdata.tableschema.exception.ValidationException;
 import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.validation.ValidationError;
+import io.frictionlessdata.tableschema.validation.ValidationReport;
 import org.apache.commons.csv.CSVFormat;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -53,10 +56,77 @@ public class ForeignKeyTest {
                 CSVFormat.DEFAULT.builder().setHeader().get());
         ForeignKeyException fke = assertThrows(ForeignKeyException.class, ()
                 -> schema.getForeignKeys().get(0).validate(table));
-        Assertions.assertEquals("Foreign key [check_year-> year] violation : expected: 2018 found: 2017",
+        Assertions.assertEquals("Foreign key [check_city, check_year] -> [city, year] violation in row 2: [paris, 2018] not found",
                 fke.getMessage());
     }
 
+    @Test
+    @DisplayName("data validation. Check a fact table against a dimension table with single and composite keys")
+    public void testFkReferenceToOtherTable() throws Exception {
+        Schema dimensionSchema = Schema.fromJson("{\"fields\": [" +
+                "{\"name\": \"id\", \"type\": \"integer\"}," +
+                "{\"name\": \"city\", \"type\": \"string\"}," +
+                "{\"name\": \"year\", \"type\": \"year\"}]}", true);
+        Table dimension = Table.fromSource("id,city,year\n1,london,2017\n2,paris,2017\n3,rome,2018\n",
+                dimensionSchema, CSVFormat.DEFAULT.builder().setHeader().get());
+        Schema factSchema = Schema.fromJson("{\"fields\": [" +
+                "{\"name\": \"city_id\", \"type\": \"integer\"}," +
+                "{\"name\": \"city\", \"type\": \"string\"}," +
+                "{\"name\": \"year\", \"type\": \"year\"}]}", true);
+        Table facts = Table.fromSource("city_id,city,year\n3,rome,2018\n1,london,2017\n,,\n2,paris,2018\n",
+                factSchema, CSVFormat.DEFAULT.builder().setHeader().get());
+
+        ForeignKey single = new ForeignKey("city_id", new Reference("dimension", "id", true), true);
+        single.validate(facts, dimension);
+
+        ForeignKey composite = new ForeignKey(Arrays.asList("city", "year"),
+                new Reference("dimension", Arrays.asList("city", "year"), true), true);
+        ForeignKeyException fke = assertThrows(ForeignKeyException.class,
+                () -> composite.validate(facts, dimension));
+        Assertions.assertEquals("Foreign key [city, year] -> [city, year] violation in row 4: " +
+                "[paris, 2018] not found", fke.getMessage());
+
+        // a string can't reference an integer, their cast values never match
+        ForeignKey mismatched = new ForeignKey("city", new Reference("dimension", "id", true), true);
+        fke = assertThrows(ForeignKeyException.class, () -> mismatched.validate(facts, dimension));
+        Assertions.assertEquals("Foreign key field 'city' of type 'string' can't reference field 'id' " +
+                "of type 'integer'", fke.getMessage());
+
+        // integers and numbers get the same keys
+        Table amounts = Table.fromSource("amount\n1.0\n2\n3E0\n", Schema.fromJson("{\"fields\": [" +
+                "{\"name\": \"amount\", \"type\": \"number\"}]}", true), CSVFormat.DEFAULT.builder().setHeader().get());
+        ForeignKey toNumber = new ForeignKey("city_id", new Reference("amounts", "amount", true), true);
+        toNumber.validate(facts, amounts);
+        ForeignKey fromNumber = new ForeignKey("amount", new Reference("dimension", "id", true), true);
+        fromNumber.validate(amounts, dimension);
+
+        // without Schema, the keys of a table can't be cast
+        Table noSchema = Table.fromSource("id\n1\n2\n3\n");
+        TableValidationException tve = assertThrows(TableValidationException.class,
+                () -> single.validate(facts, noSchema));
+        Assertions.assertEquals("Referenced table of fields [id] has no Schema", tve.getMessage());
+        tve = assertThrows(TableValidationException.class, () -> single.validate(noSchema, dimension));
+        Assertions.assertEquals("Referencing table of fields [city_id] has no Schema", tve.getMessage());
+    }
+
+    @Test
+    @DisplayName("data validation. Check ForeignKey against data with a bad non-key cell, only key cells are cast")
+    public void testFkReferenceWithBadNonKeyCell() throws Exception {
+        File source = TestHelper.getResourceFile("/fixtures/schema/population_schema_for_fk_check.json");
+        Schema schema = Schema.fromJson(source, true);
+        Table table = Table.fromSource("city,year,population,check_city,check_year\n" +
+                        "london,2017,many,london,2017\n" +
+                        "paris,2017,2240000,paris,2017\n",
+                schema, CSVFormat.DEFAULT.builder().setHeader().get());
+        schema.getForeignKeys().get(0).validate(table);
+        table.validate();
+
+        ValidationReport report = table.validateData();
+        Assertions.assertEquals(1, report.getErrors().size());
+        Assertions.assertEquals(ValidationError.TYPE, report.getErrors().get(0).getConstraint());
+        Assertions.assertEquals("population", report.getErrors().get(0).getFieldName());
+    }
+
     @Test
     @DisplayName("data validation. Check Schema with ForeignKey against not matching data -> must throw")
     public void testInvalidFkReferenceFromSchema() throws Exception {
@@ -76,9 +146,9 @@ public class ForeignKeyTest {
         Assertions.assertFalse(valE.getWrappedExceptions().isEmpty());
         Exception fke = valE.getWrappedExceptions().get(0);
         Assertions.assertInstanceOf(ForeignKeyException.class, fke);
-        Assertions.assertEquals("Foreign key [check_year-> year] violation : expected: 2018 found: 2017",
+        Assertions.assertEquals("Foreign key [check_city, check_year] -> [city, year] violation in row 2: [paris, 2018] not found",
                 fke.getMessage());
-        Assertions.assertEquals("Validation failed with ForeignKeyException: Foreign key [check_year-> year] violation : expected: 2018 found: 2017",
+        Assertions.assertEquals("Validation failed with ForeignKeyException: Foreign key [check_city, check_year] -> [city, year] violation in row 2: [paris, 2018] not found",
                 valE.getMessage());
 
     }
@@ -0,0 +1,67 @@
+package io.frictionlessdata.tableschema.io;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.tabledatasource.TableDataSource;
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("Write records and ensure cells are quoted and escaped only when needed")
+    void testQuoting() throws Exception {
+        StringWriter out = new StringWriter();
+        CSVFormat format = TableDataSource.getDefaultCsvFormat().builder().setHeader("a", "b", "c").get();
+        try (CsvWriter writer = new CsvWriter(out, format)) {
+            writer.printRecord("plain", "with, comma", "say \"hi\"");
+            writer.printRecord("", "", null);
+            writer.printRecord("#hash", "trailing ", "line\nbreak");
+        }
+        Assertions.assertEquals("a,b,c\n" +
+                "plain,\"with, comma\",\"say \"\"hi\"\"\"\n" +
+                "\"\",,\n" +
+                "\"#hash\",\"trailing \",\"line\nbreak\"\n", out.toString());
+    }
+
+    @Test
+    @DisplayName("Write values longer than the buffer and ensure the null String, trimming and trailing delimiters")
+    void testFormatOptions() throws Exception {
+        StringWriter out = new StringWriter();
+        CSVFormat format = CSVFormat.RFC4180.builder()
+                .setDelimiter(';')
+                .setNullString("NULL")
+                .setTrim(true)
+                .setTrailingDelimiter(true)
+                .get();
+        String longValue = "x".repeat(100_000);
+        try (CsvWriter writer = new CsvWriter(out, format)) {
+            writer.printRecord(" a ", null, longValue);
+        }
+        Assertions.assertEquals("a;NULL;" + longValue + ";\r\n", out.toString());
+
+        Assertions.assertTrue(CsvWriter.supports(TableDataSource.getDefaultCsvFormat()));
+        Assertions.assertFalse(CsvWriter.supports(CSVFormat.RFC4180.builder().setEscape('\\').get()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CsvWriter(new StringWriter(), CSVFormat.RFC4180.builder().setDelimiter("||").get()));
+    }
+
+    @Test
+    @DisplayName("Write a Table with a Schema and ensure unchanged string cells and cast cells round-trip")
+    void testWriteTable() throws Exception {
+        File schemaFile = new File(getTestDataDirectory(), "schema/population_schema.json");
+        Schema schema = Schema.fromJson(schemaFile, true);
+        Table table = Table.fromSource(new File("data/population.csv"), getTestDataDirectory(), schema, null);
+        StringWriter out = new StringWriter();
+        table.write(out, TableDataSource.Format.FORMAT_CSV);
+        Assertions.assertEquals(TableDataSource.getFileContents("data/population.csv", getTestDataDirectory())
+                .trim().replace("\r\n", "\n"), out.toString().trim());
+    }
+}
@@ -0,0 +1,94 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class TypedRowIteratorTest {
+
+    @Test
+    @DisplayName("Read a Table via TypedRows and ensure primitive and object values match the cast values")
+    void testReadTypedRows() throws Exception {
+        File schemaFile = new File(getTestDataDirectory(), "schema/employee_full_schema.json");
+        Schema schema = Schema.fromJson(schemaFile, true);
+        Table table = Table.fromSource(new File("data/employee_full.csv"), getTestDataDirectory(), schema, null);
+        List<Object[]> expected = table.read();
+
+        TypedRowIterator iter = table.typedRowIterator();
+        TypedRow row = iter.next();
+        int age = row.getFieldIndex("age");
+        int period = row.getFieldIndex("period_employed");
+        int start = row.getFieldIndex("employment_start");
+        int management = row.getFieldIndex("is_management");
+
+        Assertions.assertEquals(50, row.getLong(age));
+        Assertions.assertEquals(2.6, row.getDouble(period));
+        Assertions.assertEquals(new BigDecimal("2.6"), row.getObject(period));
+        Assertions.assertEquals(LocalDate.of(2017, 7, 30), row.getLocalDate(start));
+        Assertions.assertFalse(row.getBoolean(management));
+        Assertions.assertThrows(InvalidCastException.class, () -> row.getLong(period));
+
+        int i = 0;
+        Assertions.assertArrayEquals(expected.get(i++), row.toArray());
+        while (iter.hasNext()) {
+            // the same instance is refilled for every row
+            Assertions.assertSame(row, iter.next());
+            Assertions.assertArrayEquals(expected.get(i++), row.toArray());
+        }
+        Assertions.assertEquals(expected.size(), i);
+    }
+
+    @Test
+    @DisplayName("Read a Table with null values via TypedRows and ensure nulls are reported")
+    void testReadTypedRowsWithNulls() throws Exception {
+        Schema schema = Schema.fromJson(new File(getTestDataDirectory(), "schema/population_schema.json"), true);
+        Table table = Table.fromSource(
+                new File("data/population-null-values.csv"), getTestDataDirectory(), schema, null);
+
+        TypedRowIterator iter = table.typedRowIterator();
+        TypedRow row = iter.next();
+        Assertions.assertTrue(row.isNull(1));
+        Assertions.assertEquals(0, row.getLong(1));
+        Assertions.assertNull(row.getObject(1));
+        Assertions.assertEquals(8780000, row.getLong(2));
+
+        iter.next();
+        row = iter.next();
+        Assertions.assertFalse(row.isNull(1));
+        Assertions.assertEquals(2017, row.getLong(1));
+        Assertions.assertEquals(Year.of(2017), row.getObject(1));
+
+        row = iter.next();
+        Assertions.assertTrue(row.isNull(2));
+        Assertions.assertNull(row.getObject(2));
+    }
+
+    @Test
+    @DisplayName("Read integers out of the range of long via TypedRows and ensure a Schema is required")
+    void testReadBigIntegers() throws Exception {
+        Schema schema = Schema.fromJson(new File(getTestDataDirectory(), "schema/population_schema.json"), true);
+        String data = "city,year,population\nnowhere,2017,92233720368547758070";
+
+        Table noSchemaTable = Table.fromSource(data);
+        Assertions.assertThrows(TableSchemaException.class, noSchemaTable::typedRowIterator);
+
+        Table table = Table.fromSource(data, schema, null);
+        TypedRow row = table.typedRowIterator().next();
+        Assertions.assertEquals(new BigInteger("92233720368547758070"), row.getObject(2));
+        Assertions.assertEquals(9.223372036854776E19, row.getDouble(2));
+        Assertions.assertThrows(ArithmeticException.class, () -> row.getLong(2));
+    }
+}
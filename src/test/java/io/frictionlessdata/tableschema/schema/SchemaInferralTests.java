@@ -17,7 +17,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import static io.frictionlessdata.tableschema.TestHelper.getResourceFile;
 import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
@@ -42,6 +47,145 @@ public class SchemaInferralTests {
         Assertions.assertTrue(schema.isValid());
     }
 
+    @Test
+    @DisplayName("Infer a Schema with a row limit and ensure rows after the limit are not read")
+    void inferASchemaWithRowLimit() throws Exception{
+        // the unterminated quote in the last row makes the CSV parser fail if it gets read
+        String csvData = "id,name\n1,John\n2,Jane\n3,\"Bob";
+        Table table = Table.fromSource(csvData);
+        Assertions.assertThrows(TypeInferringException.class, table::inferSchema);
+
+        Schema schema = table.inferSchema(1);
+        Assertions.assertEquals("integer", schema.getField("id").getType());
+        Assertions.assertEquals("string", schema.getField("name").getType());
+
+        // rows are pulled from the Iterator only up to the row limit
+        List<Object[]> rows = Arrays.asList(new Object[]{"1", "John"}, new Object[]{"2", "Jane"});
+        Iterator<Object[]> iter = rows.iterator();
+        Schema.infer(iter, new String[]{"id", "name"}, 0);
+        Assertions.assertTrue(iter.hasNext());
+    }
+
+    @Test
+    @DisplayName("Infer a Schema with sampling strategies and ensure late type changes are found")
+    void inferASchemaWithSampling() throws Exception{
+        // the `value` column holds integers, then switches to text after 300 rows
+        StringBuilder sb = new StringBuilder("id,value\n");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(-i - 1).append(',').append((i < 300) ? String.valueOf(-i - 1) : "text" + i).append('\n');
+        }
+        Table table = Table.fromSource(sb.toString());
+
+        Schema head = table.inferSchema(SamplingStrategy.head(100));
+        Assertions.assertEquals("integer", head.getField("value").getType());
+        Schema reservoir = table.inferSchema(SamplingStrategy.reservoir(100, 42));
+        Assertions.assertEquals("integer", reservoir.getField("id").getType());
+        Assertions.assertEquals("string", reservoir.getField("value").getType());
+        Assertions.assertEquals(reservoir, table.inferSchema(SamplingStrategy.reservoir(100, 42)));
+        Schema everyKth = table.inferSchema(SamplingStrategy.everyKth(3));
+        Assertions.assertEquals("string", everyKth.getField("value").getType());
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(new Object[]{String.valueOf(i)});
+        }
+        // head stops pulling rows once the sample is complete
+        Iterator<Object[]> iter = rows.iterator();
+        List<Object[]> sample = new ArrayList<>();
+        SamplingStrategy.head(3).sample(iter).forEachRemaining(sample::add);
+        Assertions.assertEquals(rows.subList(0, 3), sample);
+        Assertions.assertTrue(iter.hasNext());
+        // every k-th row starting with the first
+        sample.clear();
+        SamplingStrategy.everyKth(4).sample(rows.iterator()).forEachRemaining(sample::add);
+        Assertions.assertEquals(Arrays.asList(rows.get(0), rows.get(4), rows.get(8)), sample);
+        // the reservoir returns distinct rows in their original order
+        sample.clear();
+        SamplingStrategy.reservoir(5, 7).sample(rows.iterator()).forEachRemaining(sample::add);
+        Assertions.assertEquals(5, sample.size());
+        for (int i = 1; i < sample.size(); i++) {
+            Assertions.assertTrue(rows.indexOf(sample.get(i - 1)) < rows.indexOf(sample.get(i)));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SamplingStrategy.reservoir(0, 7));
+    }
+
+    @Test
+    @DisplayName("Infer a Schema from merged inference states of shards and ensure it matches the whole table")
+    void inferASchemaFromMergedStates() throws Exception{
+        String[] headers = new String[]{"id", "value", "when"};
+        Table first = Table.fromSource("id,value,when\n1,1.5,2017-01-01\n2,text,2017-01-02");
+        Table second = Table.fromSource("id,value,when\n3,text,2017-01-03\n4,other,2017-01-04\n5,,2017-01-05");
+        Table whole = Table.fromSource("id,value,when\n1,1.5,2017-01-01\n2,text,2017-01-02\n"
+                + "3,text,2017-01-03\n4,other,2017-01-04\n5,,2017-01-05");
+
+        InferenceState state = first.inferState(headers, -1);
+        // ship the state of the second shard as JSON, as a remote worker would
+        InferenceState remote = InferenceState.fromJson(second.inferState(headers, -1).asJson());
+        Assertions.assertEquals(3, remote.getRowCount());
+        Assertions.assertEquals(2, remote.getTypeScores(1).get("string"));
+        Assertions.assertEquals("default", remote.getFormat(2));
+
+        state.merge(remote);
+        Assertions.assertEquals(5, state.getRowCount());
+        Assertions.assertEquals(whole.inferSchema(), state.toSchema());
+        Assertions.assertEquals("string", state.toSchema().getField("value").getType());
+
+        InferenceState other = new InferenceState(new String[]{"id", "name"});
+        Assertions.assertThrows(TypeInferringException.class, () -> state.merge(other));
+        Assertions.assertThrows(TypeInferringException.class, () -> InferenceState.fromJson("{\"headers\":[\"a\"]}"));
+
+        // sources with equal headers are combined instead of rejected
+        Schema combined = Schema.infer(Arrays.asList("id,value\n1,1\n2,2", "id,value\n3,a\n4,b\n5,c"),
+                StandardCharsets.UTF_8);
+        Assertions.assertEquals("integer", combined.getField("id").getType());
+        Assertions.assertEquals("string", combined.getField("value").getType());
+    }
+
+    @Test
+    @DisplayName("Infer Schemas of different tables concurrently and ensure the runs don't interfere")
+    void inferSchemasConcurrently() throws Exception{
+        String[] data = new String[]{
+                "id,name\n1,John\n2,Jane",
+                "id,name\nfirst,2017-01-01\nsecond,2017-01-02",
+                "id,name\n1.5,true\n2.5,false",
+                "id,name\n2017,10:15:00\n2018,11:30:00"
+        };
+        List<Schema> expected = new ArrayList<>();
+        for (String d : data) {
+            expected.add(Table.fromSource(d).inferSchema());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(data.length);
+        try {
+            List<Future<Schema>> results = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                String d = data[i % data.length];
+                results.add(executor.submit(() -> Table.fromSource(d).inferSchema()));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expected.get(i % data.length), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Infer a Schema with the columns scored in parallel and ensure it matches the sequential result")
+    void inferASchemaInParallel() throws Exception{
+        File basePath = getResourceFile("/fixtures/data/");
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (String fileName : new String[]{"employee_full.csv", "AW_229_000001_000002.csv"}) {
+                Table table = Table.fromSource(getResourceFile(fileName), basePath);
+                assertEquals(table.inferSchema(), table.inferSchema(-1, pool));
+                assertEquals(table.inferSchema(1), table.inferSchema(1, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     @DisplayName("Infer a Bean Schema")
     void inferExplicitNamingBeanSchema() throws Exception{
@@ -270,6 +414,39 @@ public class SchemaInferralTests {
         Assertions.assertTrue(schema.hasField("name"));
     }
 
+    @Test
+    @DisplayName("Test infer from many partition files in parallel yields the sequential result")
+    void testInferFromPartitionFilesInParallel() throws Exception {
+        File dir = Files.createTempDirectory("partitions").toFile();
+        dir.deleteOnExit();
+        List<File> partitions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            File partition = new File(dir, "part-" + i + ".csv");
+            partition.deleteOnExit();
+            // only the last partition has non-numeric amounts
+            String amount = (i < 19) ? String.valueOf(-i * 10) : "n/a";
+            Files.write(partition.toPath(), ("day,amount\n2017-01-" + (10 + i) + "," + amount + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            partitions.add(partition);
+        }
+
+        Schema expected = Schema.infer(partitions, StandardCharsets.UTF_8, -1);
+        Assertions.assertEquals("date", expected.getField("day").getType());
+        Assertions.assertEquals("integer", expected.getField("amount").getType());
+        Assertions.assertEquals(expected, Schema.infer(partitions, StandardCharsets.UTF_8, -1, 4));
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Assertions.assertEquals(expected, Schema.infer(partitions, StandardCharsets.UTF_8, -1, executor, 3));
+            List<Object> mismatched = new ArrayList<>(partitions);
+            mismatched.add("id,name\n1,John");
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> Schema.infer(mismatched, StandardCharsets.UTF_8, -1, executor, 3));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     @DisplayName("Test infer throws exception for different schemas from multiple sources")
     void testInferThrowsForDifferentSchemas() throws Exception {
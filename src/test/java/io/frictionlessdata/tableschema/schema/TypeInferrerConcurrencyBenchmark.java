@@ -0,0 +1,80 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the throughput of Schema inference with 1, 2, 4, ... threads up to the number of cores. Each thread
+ * infers the Schema of its own table in a loop, as a service inferring Schemas of concurrent uploads would.
+ *
+ * Not a unit test; run the main method from the test classpath, optionally with the number of rows per table
+ * and the seconds to measure per thread count as arguments.
+ */
+public class TypeInferrerConcurrencyBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int rows = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+        int seconds = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+        int cores = Runtime.getRuntime().availableProcessors();
+        String data = createData(rows);
+
+        // warm up the JIT before measuring
+        measure(data, cores, 2);
+        double single = 0;
+        System.out.printf("%8s %14s %8s%n", "threads", "inferences/s", "speedup");
+        for (int threads = 1; threads <= cores; threads = (threads < cores) ? Math.min(threads * 2, cores) : cores + 1) {
+            double throughput = measure(data, threads, seconds);
+            if (threads == 1) {
+                single = throughput;
+            }
+            System.out.printf("%8d %14.1f %8.2f%n", threads, throughput, throughput / single);
+        }
+    }
+
+    private static double measure(String data, int threads, int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder inferences = new LongAdder();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                Table table = Table.fromSource(data);
+                String[] headers = table.getHeaders();
+                while (running.get()) {
+                    table.inferSchema(headers, -1);
+                    inferences.increment();
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        return inferences.sum() / (elapsed / 1e9);
+    }
+
+    private static String createData(int rows) {
+        StringBuilder sb = new StringBuilder("id,name,score,active,joined,ratio\n");
+        for (int i = 0; i < rows; i++) {
+            sb.append(i).append(',')
+                    .append("name").append(i % 97).append(',')
+                    .append(i * 7 % 1000).append('.').append(i % 10).append(',')
+                    .append((i % 2 == 0) ? "true" : "false").append(',')
+                    .append(2000 + (i % 20)).append("-0").append(1 + (i % 9)).append("-1").append(i % 9).append(',')
+                    .append(i % 3).append('\n');
+        }
+        return sb.toString();
+    }
+}
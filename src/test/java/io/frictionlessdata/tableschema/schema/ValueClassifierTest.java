@@ -0,0 +1,57 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.field.Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ValueClassifierTest {
+    private static final String[] values = new String[]{
+            "hello", "Hello World", " ", "  padded  ", "null", " null ", "NULL", "nil",
+            "0", "1", "42", "-42", "+42", " 42 ", "0042", "٣٤", "1,000", "1.5", "-1.5e10", ".5", "5.",
+            "NaN", "nan", "INF", "-INF", "inf", "Infinity", "1e", "e1",
+            "true", "True", "TRUE", "false", "False", "FALSE", "yes", "t", "f", "tru",
+            "2017", "1999", "201", "20171", "2017-01", "2017-13", "2017-1", "2017-01-01", "2017-02-30", "01/01/2017",
+            "10:15", "10:15:30", "101530", "1:2:3", "25:00:00", "10:15:30.5",
+            "2017-01-01T10:15:30Z", "2017-01-01T10:15:30.123+01:00", "-2017-01-01T10:15:30", "2017-01-01 10:15:30",
+            "P1D", "PT8H", "-PT8H", "+P1Y2M", "p1d", "P", "PT", "Peter",
+            "90,45", "90, 45", "-122.4,37.7", "1,2,3", "a,b", "[90,45]", "[90, 45, 3]",
+            "{\"lon\": 90, \"lat\": 45}", "{\"lat\": 45}",
+            "{}", " {} ", "{\"a\": 1}", "{'a': 1}", "[]", " [1, 2] ", "[\"a\"]", "[1", "{a",
+            "{\"type\": \"Point\", \"coordinates\": [125.6, 10.1]}",
+            "\"quoted\"", "'single'", "123abc", "abc123", "foo@bar.com", "http://example.com",
+            "123e4567-e89b-12d3-a456-426614174000", "\ufeff{}", "\t[1]\n"
+    };
+
+    @Test
+    @DisplayName("Ensure the ValueClassifier only rules out types that can't parse a value")
+    void testClassifierNeverRulesOutCompatibleTypes() {
+        for (String[] typeDefinition : TypeInferrer.TYPE_INFERRAL_ORDER_LIST) {
+            String type = typeDefinition[0];
+            int bit = ValueClassifier.typeBit(type);
+            if (bit == 0) {
+                continue;
+            }
+            Field<?> field = Field.forType(type);
+            for (String value : values) {
+                if ((ValueClassifier.classify(value) & bit) != 0) {
+                    continue;
+                }
+                String format = field.parseFormat(value, null);
+                Assertions.assertFalse(field.isCompatibleValue(value, format),
+                        "'" + value + "' ruled out for type " + type + " but compatible");
+                Assertions.assertFalse(field.isCompatibleValue(value, Field.FIELD_FORMAT_DEFAULT),
+                        "'" + value + "' ruled out for type " + type + " but compatible");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Ensure plain text is classified as string only")
+    void testClassifyText() {
+        Assertions.assertEquals(0, ValueClassifier.classify("hello"));
+        Assertions.assertEquals(ValueClassifier.INTEGER | ValueClassifier.NUMBER | ValueClassifier.YEAR
+                        | ValueClassifier.TIME, ValueClassifier.classify("2017"));
+        Assertions.assertEquals(ValueClassifier.OBJECT | ValueClassifier.GEOJSON, ValueClassifier.classify("{}"));
+    }
+}
@@ -19,6 +19,7 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
 
@@ -45,6 +46,35 @@ public class TableIterationTest {
         Assertions.assertEquals("foo", table.read().get(0)[1]);
     }
 
+    @Test
+    public void testReadParallel() throws Exception{
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/population_schema.json"), true);
+        Table table = Table.fromMappedFile(new File("data/population.csv"), testDataDir, schema, null);
+        List<Object[]> expected = table.read();
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<Object[]> ordered = new ArrayList<>();
+            table.readParallel(pool, true, ordered::add);
+            Assertions.assertEquals(expected.size(), ordered.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assertions.assertArrayEquals(expected.get(i), ordered.get(i));
+            }
+
+            List<Object[]> unordered = new ArrayList<>();
+            table.readParallel(pool, false, unordered::add);
+            Assertions.assertEquals(expected.size(), unordered.size());
+            Set<String> expectedCities = new HashSet<>();
+            Set<String> cities = new HashSet<>();
+            expected.forEach((r) -> expectedCities.add((String)r[0]));
+            unordered.forEach((r) -> cities.add((String)r[0]));
+            Assertions.assertEquals(expectedCities, cities);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testReadCastDataWithSchema() throws Exception{
         File testDataDir = getTestDataDirectory();
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.StringWriter;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -125,6 +126,34 @@ public class TableOtherTest {
     }
 
 
+    @Test
+    @DisplayName("Stream data as compact and pretty-printed JSON and compare to asJson()")
+    public void testWriteJson() throws Exception{
+        File schemaFile = new File(getTestDataDirectory(), "schema/employee_full_schema.json");
+        Schema schema = Schema.fromJson (schemaFile, true);
+        Table table = Table.fromSource(new File("data/employee_full.csv"), getTestDataDirectory(), schema, null);
+        String json = table.asJson();
+
+        StringWriter pretty = new StringWriter();
+        table.write(pretty, TableDataSource.Format.FORMAT_JSON);
+        Assertions.assertEquals(json, pretty.toString());
+
+        StringWriter compact = new StringWriter();
+        table.writeJson(compact, true);
+        Assertions.assertFalse(compact.toString().contains("\n"));
+        Assertions.assertFalse(compact.toString().contains("\" : "));
+        Assertions.assertEquals(JsonUtil.getInstance().readValue(json),
+                JsonUtil.getInstance().readValue(compact.toString()));
+
+        Path tempFile = Files.createTempFile("employee_full", ".json");
+        try {
+            table.writeJson(tempFile.toFile(), true);
+            Assertions.assertEquals(compact.toString(), Files.readString(tempFile));
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
     @Test
     public void testCsvDataSourceFormatToJson() throws Exception{
         File schemaFile = new File(getTestDataDirectory(), "schema/employee_schema.json");
@@ -0,0 +1,121 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.TestHelper;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+class MappedCsvTableDataSourceTest {
+    private final static String[] populationHeaders = new String[]{
+            "city", "year", "population"
+    };
+
+    @Test
+    @DisplayName("Create a MappedCsvTableDataSource from File and ensure content matches the CsvTableDataSource")
+    void testFileCreation() throws Exception {
+        File basePath = new File(TestHelper.getTestDataDirectory(),"data");
+        File inFile = new File("population.csv");
+        TableDataSource ds = TableDataSource.fromMappedFile(inFile, basePath);
+        TableDataSource reference = new CsvTableDataSource(inFile, basePath);
+
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+        List<String[]> data = ds.getDataAsStringArray();
+        List<String[]> expected = reference.getDataAsStringArray();
+        Assertions.assertEquals(expected.size(), data.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), data.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Create a MappedCsvTableDataSource with a custom CSVFormat and ensure the format is honoured")
+    void testCustomFormat() throws Exception {
+        String csv = "\ufeff# a comment\n" +
+                "city;\"year\";population\r\n" +
+                "\"lon;don\";2017;8780000\r\n" +
+                "\n" +
+                "\"pa\"\"ris\";NA;\"2240\n000\"\r\n" +
+                "  rome  ;2017;2860000";
+        Path dir = Files.createTempDirectory("tableschema-");
+        Files.write(dir.resolve("population.csv"), csv.getBytes(StandardCharsets.UTF_8));
+
+        CSVFormat format = TableDataSource.getDefaultCsvFormat()
+                .builder()
+                .setDelimiter(';')
+                .setCommentMarker('#')
+                .setIgnoreEmptyLines(true)
+                .setNullString("NA")
+                .get();
+        MappedCsvTableDataSource ds = (MappedCsvTableDataSource)TableDataSource
+                .fromMappedFile(new File("population.csv"), dir.toFile());
+        ds.setFormat(format);
+
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+        List<String[]> data = ds.getDataAsStringArray();
+        Assertions.assertEquals(3, data.size());
+        Assertions.assertArrayEquals(new String[]{"lon;don", "2017", "8780000"}, data.get(0));
+        Assertions.assertArrayEquals(new String[]{"pa\"ris", null, "2240\n000"}, data.get(1));
+        Assertions.assertArrayEquals(new String[]{"rome", "2017", "2860000"}, data.get(2));
+
+        // only materialize the second column
+        Iterator<String[]> iter = ds.iterator(Arrays.asList(1));
+        Assertions.assertArrayEquals(new String[]{null, "2017", null}, iter.next());
+    }
+
+    @Test
+    @DisplayName("Split a mapped CSV File with quoted line breaks and ensure the chunks hold all records in order")
+    void testSplit() throws Exception {
+        StringBuilder sb = new StringBuilder("id,text,value\r\n");
+        for (int i = 0; i < 200; i++) {
+            sb.append(i).append(",\"first line\nsecond, \"\"line\"\"\r\nthird line\",").append(i * 2).append("\r\n");
+        }
+        Path dir = Files.createTempDirectory("tableschema-");
+        Files.write(dir.resolve("data.csv"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        MappedCsvTableDataSource ds = (MappedCsvTableDataSource)TableDataSource
+                .fromMappedFile(new File("data.csv"), dir.toFile());
+
+        List<String[]> expected = ds.getDataAsStringArray();
+        Assertions.assertEquals(200, expected.size());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Iterator<String[]>> chunks = ds.split(37, null, pool);
+            Assertions.assertEquals(37, chunks.size());
+            List<String[]> data = new ArrayList<>();
+            chunks.forEach((c) -> c.forEachRemaining(data::add));
+            Assertions.assertEquals(expected.size(), data.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assertions.assertArrayEquals(expected.get(i), data.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Create a Table from a mapped File with a Schema and ensure values are cast")
+    void testTableFromMappedFile() throws Exception {
+        File basePath = new File(TestHelper.getTestDataDirectory(),"data");
+        File schemaFile = new File(TestHelper.getTestDataDirectory(), "schema/population_schema.json");
+        Schema schema = Schema.fromJson(schemaFile, true);
+        Table table = Table.fromMappedFile(new File("population.csv"), basePath, schema, null);
+
+        List<Object[]> data = table.read();
+        Assertions.assertEquals(3, data.size());
+        Assertions.assertEquals("london", data.get(0)[0]);
+        Assertions.assertEquals(new BigInteger("8780000"), data.get(0)[2]);
+    }
+}
@@ -0,0 +1,107 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableIOException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class NdjsonTableDataSourceTest {
+    private static final String populationNdjson =
+            "{\"city\": \"london\", \"year\": 2017, \"population\": 8780000}\n" +
+            "\n" +
+            "{\"city\": \"paris\", \"population\": 2240000}\n" +
+            "{\"year\": 2017, \"population\": 2860000, \"city\": \"rome\"}\n";
+
+    @Test
+    @DisplayName("Read NDJSON objects from a file and ensure TableDataSource.fromSource detects them")
+    void testObjectsFromFile() throws Exception {
+        File dir = Files.createTempDirectory("ndjson").toFile();
+        dir.deleteOnExit();
+        File file = new File(dir, "population.ndjson");
+        file.deleteOnExit();
+        Files.write(file.toPath(), populationNdjson.getBytes(StandardCharsets.UTF_8));
+
+        TableDataSource ds = TableDataSource.fromSource(new File("population.ndjson"), dir);
+        Assertions.assertInstanceOf(NdjsonTableDataSource.class, ds);
+        Assertions.assertArrayEquals(new String[]{"city", "year", "population"}, ds.getHeaders());
+        Assertions.assertFalse(ds.hasReliableHeaders());
+        List<String[]> rows = ds.getDataAsStringArray();
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertArrayEquals(new String[]{"paris", null, "2240000"}, rows.get(1));
+        Assertions.assertArrayEquals(new String[]{"rome", "2017", "2860000"}, rows.get(2));
+        // rows can be read more than once
+        Assertions.assertEquals(3, ds.getDataAsStringArray().size());
+    }
+
+    @Test
+    @DisplayName("Read NDJSON arrays with a header line from a String")
+    void testArrays() throws Exception {
+        NdjsonTableDataSource ds = new NdjsonTableDataSource(
+                "[\"id\", \"name\"]\n[1, \"John\"]\n  \n[2, null]\n", null);
+        Assertions.assertArrayEquals(new String[]{"id", "name"}, ds.getHeaders());
+        Assertions.assertTrue(ds.hasReliableHeaders());
+        List<String[]> rows = ds.getDataAsStringArray();
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertArrayEquals(new String[]{"1", "John"}, rows.get(0));
+        Assertions.assertArrayEquals(new String[]{"2", ""}, rows.get(1));
+
+        NdjsonTableDataSource mixed = new NdjsonTableDataSource("[\"id\"]\n{\"id\": 1}\n", null);
+        Assertions.assertThrows(TableSchemaException.class, mixed::getDataAsStringArray);
+    }
+
+    @Test
+    @DisplayName("Decode NDJSON lines in parallel and ensure rows are returned in order")
+    void testParallelDecoding() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("{\"id\": ").append(i).append(", \"name\": \"name").append(i).append("\"}\n");
+        }
+        NdjsonTableDataSource sequential = new NdjsonTableDataSource(sb.toString(), null);
+        NdjsonTableDataSource parallel = new NdjsonTableDataSource(sb.toString(), null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.setDecodingPool(pool);
+            List<String[]> expected = sequential.getDataAsStringArray();
+            List<String[]> rows = parallel.getDataAsStringArray();
+            Assertions.assertEquals(5000, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Assertions.assertArrayEquals(expected.get(i), rows.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Read NDJSON objects from an InputStream into a Table with a Schema")
+    void testTableFromStream() throws Exception {
+        Schema schema = Schema.fromJson(new File(getTestDataDirectory(), "schema/population_schema.json"), true);
+        Table table = Table.fromNdjson(new ByteArrayInputStream(populationNdjson.getBytes(StandardCharsets.UTF_8)),
+                schema, ForkJoinPool.commonPool());
+        List<Object[]> rows = table.read();
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertEquals("paris", rows.get(1)[0]);
+        Assertions.assertNull(rows.get(1)[1]);
+        Assertions.assertEquals(BigInteger.valueOf(2860000), rows.get(2)[2]);
+        // the stream has been consumed
+        RuntimeException ex = Assertions.assertThrows(RuntimeException.class, table::read);
+        Assertions.assertInstanceOf(TableIOException.class, ex.getCause());
+
+        NdjsonTableDataSource noHeaders = new NdjsonTableDataSource(
+                new ByteArrayInputStream(populationNdjson.getBytes(StandardCharsets.UTF_8)), null);
+        Assertions.assertThrows(TableSchemaException.class, noHeaders::getHeaders);
+    }
+}
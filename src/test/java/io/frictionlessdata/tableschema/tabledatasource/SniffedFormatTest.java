@@ -0,0 +1,94 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+class SniffedFormatTest {
+
+    @Test
+    @DisplayName("Sniff JSON arrays, NDJSON and CSV and ensure fromSource picks the matching data source")
+    void testSniffKind() {
+        String json = "\ufeff  [{\"id\": 1, \"name\": \"John\"}]";
+        String ndjson = "{\"id\": 1}\n{\"id\": 2}\n";
+        String csv = "id,name\n1,John\n2,Jane\n";
+        Assertions.assertEquals(SniffedFormat.Kind.JSON_ARRAY, SniffedFormat.sniff(json).getKind());
+        Assertions.assertEquals(SniffedFormat.Kind.NDJSON, SniffedFormat.sniff(ndjson).getKind());
+        Assertions.assertEquals(SniffedFormat.Kind.CSV, SniffedFormat.sniff(csv).getKind());
+        // broken JSON is not JSON
+        Assertions.assertEquals(SniffedFormat.Kind.CSV, SniffedFormat.sniff("[1, 2").getKind());
+
+        Assertions.assertInstanceOf(JsonArrayTableDataSource.class, TableDataSource.fromSource(json));
+        Assertions.assertInstanceOf(NdjsonTableDataSource.class, TableDataSource.fromSource(ndjson));
+        Assertions.assertInstanceOf(CsvTableDataSource.class, TableDataSource.fromSource(csv));
+    }
+
+    @Test
+    @DisplayName("Sniff files like Strings and ensure a CSV file starting with '{' is read as CSV")
+    void testSniffFile() throws Exception {
+        File dir = Files.createTempDirectory("sniff").toFile();
+        dir.deleteOnExit();
+        File csv = new File(dir, "braces.csv");
+        csv.deleteOnExit();
+        Files.write(csv.toPath(), "{id},name\n1,John\n".getBytes(StandardCharsets.UTF_8));
+        File ndjson = new File(dir, "objects.ndjson");
+        ndjson.deleteOnExit();
+        Files.write(ndjson.toPath(), "{\"id\": 1}\n{\"id\": 2}\n".getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertInstanceOf(CsvTableDataSource.class, TableDataSource.fromSource(new File("braces.csv"), dir));
+        Assertions.assertInstanceOf(NdjsonTableDataSource.class,
+                TableDataSource.fromSource(new File("objects.ndjson"), dir));
+    }
+
+    @Test
+    @DisplayName("Sniff a JSON array that is cut off by the end of the sniffed prefix")
+    void testSniffLongJson() throws Exception {
+        StringBuilder sb = new StringBuilder("[[\"id\", \"name\"]");
+        int i = 0;
+        while (sb.length() < 2 * SniffedFormat.PREFIX_LENGTH) {
+            sb.append(", [").append(i).append(", \"name").append(i++).append("\"]");
+        }
+        sb.append("]");
+        Assertions.assertEquals(SniffedFormat.Kind.JSON_ARRAY, SniffedFormat.sniff(sb.toString()).getKind());
+        Assertions.assertEquals(SniffedFormat.Kind.JSON_ARRAY,
+                SniffedFormat.sniff(new StringReader(sb.toString())).getKind());
+        Assertions.assertEquals(i, TableDataSource.fromSource(sb.toString()).getDataAsStringArray().size());
+    }
+
+    @Test
+    @DisplayName("Sniff CSV dialects and parse the data with the sniffed format")
+    void testSniffCsvDialect() throws Exception {
+        SniffedFormat format = SniffedFormat.sniff("city;year;population\n'london, uk';2017;8780000\n" +
+                "paris;2017;2240000\nrome;2017;2860000\n");
+        Assertions.assertEquals(SniffedFormat.Kind.CSV, format.getKind());
+        Assertions.assertEquals(';', format.getDelimiter());
+        Assertions.assertEquals('\'', format.getQuote());
+        Assertions.assertTrue(format.hasHeader());
+
+        format = SniffedFormat.sniff("1\t\"John\"\t-5.5\n2\t\"Jane\"\t-3\n");
+        Assertions.assertEquals('\t', format.getDelimiter());
+        Assertions.assertEquals('"', format.getQuote());
+        Assertions.assertFalse(format.hasHeader());
+
+        // header detection by the length of fixed-length values
+        format = SniffedFormat.sniff("code|label\nAB|first\nCD|second\n");
+        Assertions.assertEquals('|', format.getDelimiter());
+        Assertions.assertTrue(format.hasHeader());
+
+        String data = "name;count\n'x;y';-1\n'v';-2\n";
+        CSVFormat csvFormat = SniffedFormat.sniff(data).toCsvFormat();
+        CsvTableDataSource ds = new CsvTableDataSource(data);
+        ds.setFormat(csvFormat);
+        Assertions.assertArrayEquals(new String[]{"name", "count"}, ds.getHeaders());
+        List<String[]> rows = ds.getDataAsStringArray();
+        Assertions.assertArrayEquals(new String[]{"x;y", "-1"}, rows.get(0));
+        Assertions.assertArrayEquals(new String[]{"v", "-2"}, rows.get(1));
+    }
+}
@@ -0,0 +1,91 @@
+package io.frictionlessdata.tableschema.tabledatasource;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class StreamingJsonTableDataSourceTest {
+
+    @Test
+    @DisplayName("Ensure a StreamingJsonTableDataSource returns the same headers and rows as a JsonArrayTableDataSource")
+    void testSameDataAsJsonArrayTableDataSource() throws Exception {
+        String[] files = new String[]{"data/population.json", "data/population_alternate.json",
+                "data/employee_data.json", "data/employee_full.json", "data/employee_data_string_missing_col.json"};
+        for (String file : files) {
+            String content = TableDataSource.getFileContents(file, getTestDataDirectory());
+            TableDataSource expected = new JsonArrayTableDataSource(content);
+            TableDataSource streaming = new StreamingJsonTableDataSource(new File(file), getTestDataDirectory());
+
+            Assertions.assertArrayEquals(expected.getHeaders(), streaming.getHeaders(), file);
+            Assertions.assertEquals(expected.hasReliableHeaders(), streaming.hasReliableHeaders(), file);
+            List<String[]> expectedRows = expected.getDataAsStringArray();
+            List<String[]> rows = streaming.getDataAsStringArray();
+            Assertions.assertEquals(expectedRows.size(), rows.size(), file);
+            for (int i = 0; i < rows.size(); i++) {
+                Assertions.assertArrayEquals(expectedRows.get(i), rows.get(i), file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Read an array of arrays and an array of objects with supplied headers from a token stream")
+    void testLayouts() throws Exception {
+        File dir = Files.createTempDirectory("json").toFile();
+        dir.deleteOnExit();
+        File arrays = new File(dir, "arrays.json");
+        arrays.deleteOnExit();
+        Files.write(arrays.toPath(), ("[[\"id\", \"name\", \"score\"], [1, \"John\", 1.50], [2, null, 3e2]]")
+                .getBytes(StandardCharsets.UTF_8));
+        TableDataSource ds = new StreamingJsonTableDataSource(new File("arrays.json"), dir);
+        Assertions.assertArrayEquals(new String[]{"id", "name", "score"}, ds.getHeaders());
+        Assertions.assertTrue(ds.hasReliableHeaders());
+        List<String[]> rows = ds.getDataAsStringArray();
+        Assertions.assertArrayEquals(new String[]{"1", "John", "1.5"}, rows.get(0));
+        Assertions.assertArrayEquals(new String[]{"2", "", "300.0"}, rows.get(1));
+
+        File objects = new File(dir, "objects.json");
+        objects.deleteOnExit();
+        Files.write(objects.toPath(), ("[{\"id\": 1, \"extra\": {\"a\": [1, 2]}, \"tags\": [\"x\"]}, {\"id\": 2}]")
+                .getBytes(StandardCharsets.UTF_8));
+        ds = new StreamingJsonTableDataSource(new File("objects.json"), dir, new String[]{"tags", "id"});
+        Assertions.assertArrayEquals(new String[]{"tags", "id"}, ds.getHeaders());
+        Assertions.assertFalse(ds.hasReliableHeaders());
+        Iterator<String[]> iter = ds.iterator();
+        Assertions.assertArrayEquals(new String[]{"[\"x\"]", "1"}, iter.next());
+        Assertions.assertArrayEquals(new String[]{null, "2"}, iter.next());
+        Assertions.assertFalse(iter.hasNext());
+
+        ds = new StreamingJsonTableDataSource(new File("objects.json"), dir);
+        Assertions.assertArrayEquals(new String[]{"id", "extra", "tags"}, ds.getHeaders());
+    }
+
+    @Test
+    @DisplayName("Create a Table on a streamed JSON file with a Schema and ensure it reads like a parsed one")
+    void testTableFromStreamingJson() throws Exception {
+        File schemaFile = new File(getTestDataDirectory(), "schema/population_schema.json");
+        Schema schema = Schema.fromJson(schemaFile, true);
+        Table expected = Table.fromSource(new File("data/population.json"), getTestDataDirectory(), schema, null);
+        Table table = Table.fromStreamingJson(new File("data/population.json"), getTestDataDirectory(), schema);
+
+        List<Object[]> expectedRows = expected.read();
+        List<Object[]> rows = new ArrayList<>(table.read());
+        Assertions.assertEquals(expectedRows.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(Arrays.asList(expectedRows.get(i)), Arrays.asList(rows.get(i)));
+        }
+        Assertions.assertEquals(expected.inferSchema(), Table.fromStreamingJson(
+                new File("data/population.json"), getTestDataDirectory(), null).inferSchema());
+    }
+}
@@ -174,6 +174,34 @@ public class TableDataSourceFormatsTest {
         Assertions.assertNotNull(ds);
     }
 
+    @Test
+    @DisplayName("Create a TableDataSource from a CSV File, ensure it streams as CsvTableDataSource " +
+            "and can be iterated repeatedly")
+    public void testFileCreationCsvStreaming() throws Exception {
+        File basePath = new File(TestHelper.getTestDataDirectory(),"data");
+        File inFile = new File("population.csv");
+        TableDataSource ds = TableDataSource.fromSource(inFile,basePath);
+        Assertions.assertInstanceOf(CsvTableDataSource.class, ds);
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+
+        List<String[]> first = ds.getDataAsStringArray();
+        List<String[]> second = ds.getDataAsStringArray();
+        Assertions.assertEquals(3, first.size());
+        Assertions.assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            Assertions.assertArrayEquals(first.get(i), second.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Create a TableDataSource from a JSON File and ensure it is a JsonArrayTableDataSource")
+    public void testFileCreationJson() throws Exception {
+        File basePath = new File(TestHelper.getTestDataDirectory(),"data");
+        File inFile = new File("population.json");
+        TableDataSource ds = TableDataSource.fromSource(inFile,basePath);
+        Assertions.assertInstanceOf(JsonArrayTableDataSource.class, ds);
+    }
+
     @Test
     @DisplayName("Create a CsvTableDataSource from JSON data and ensure Exception is thrown")
     public void testWrongInputStreamCreationCsv() throws Exception {
@@ -0,0 +1,271 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.tabledatasource.TableDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class TableValidatorTest {
+    private static final String schemaJson = "{\"fields\": [" +
+            "{\"name\": \"id\", \"type\": \"integer\"}," +
+            "{\"name\": \"name\", \"type\": \"string\", \"constraints\": {\"required\": true, \"minLength\": 2}}," +
+            "{\"name\": \"age\", \"type\": \"integer\", \"constraints\": {\"minimum\": 0, \"maximum\": 150}}" +
+            "]}";
+
+    private static final String data = "id,name,age\n" +
+            "1,John,30\n" +
+            "x,Jane,-5\n" +
+            "3,,200\n" +
+            "4,B,abc\n" +
+            "5,Jim,40\n";
+
+    @Test
+    @DisplayName("Validate all rows and ensure cast errors and constraint violations are reported in row order")
+    void testCollectAll() throws Exception {
+        Table table = Table.fromSource(data, Schema.fromJson(schemaJson, true),
+                TableDataSource.getDefaultCsvFormat());
+        ValidationReport report = table.validateData();
+        Assertions.assertFalse(report.isValid());
+        Assertions.assertTrue(report.isComplete());
+        Assertions.assertEquals(5, report.getRowCount());
+
+        List<ValidationError> errors = report.getErrors();
+        Assertions.assertEquals(6, errors.size());
+        assertError(errors.get(0), 2, "id", ValidationError.TYPE, "x");
+        assertError(errors.get(1), 2, "age", "minimum", "-5");
+        assertError(errors.get(2), 3, "name", "required", "");
+        assertError(errors.get(3), 3, "age", "maximum", "200");
+        assertError(errors.get(4), 4, "name", "minLength", "B");
+        assertError(errors.get(5), 4, "age", ValidationError.TYPE, "abc");
+    }
+
+    @Test
+    @DisplayName("Validate in fail-fast mode and with an error cap and ensure validation stops early")
+    void testFailFastAndCap() throws Exception {
+        Table table = Table.fromSource(data, Schema.fromJson(schemaJson, true),
+                TableDataSource.getDefaultCsvFormat());
+        ValidationReport report = table.validateData(TableValidator.Mode.FAIL_FAST, 100);
+        Assertions.assertEquals(1, report.getErrors().size());
+        Assertions.assertEquals(2, report.getRowCount());
+        Assertions.assertFalse(report.isComplete());
+        assertError(report.getErrors().get(0), 2, "id", ValidationError.TYPE, "x");
+
+        report = new TableValidator(TableValidator.Mode.COLLECT_ALL, 3).validate(table);
+        Assertions.assertEquals(3, report.getErrors().size());
+        Assertions.assertEquals(3, report.getRowCount());
+        Assertions.assertFalse(report.isComplete());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TableValidator(TableValidator.Mode.COLLECT_ALL, 0));
+    }
+
+    @Test
+    @DisplayName("Validate valid data and data with headers that do not match the Schema")
+    void testValidDataAndHeaderMismatch() throws Exception {
+        File schemaFile = new File(getTestDataDirectory(), "schema/population_schema.json");
+        Schema schema = Schema.fromJson(schemaFile, true);
+        Table table = Table.fromSource(new File("data/population.csv"), getTestDataDirectory(), schema, null);
+        ValidationReport report = table.validateData();
+        Assertions.assertTrue(report.isValid());
+        Assertions.assertEquals(3, report.getRowCount());
+
+        Table renamed = Table.fromSource("city,yr,population\nlondon,2017,8780000\n", schema,
+                TableDataSource.getDefaultCsvFormat());
+        report = renamed.validateData();
+        Assertions.assertEquals(ValidationError.HEADER, report.getErrors().get(0).getConstraint());
+        Assertions.assertEquals(0, report.getErrors().get(0).getRowNumber());
+
+        Assertions.assertTrue(Table.fromSource(data).validateData().isValid());
+    }
+
+    @Test
+    @DisplayName("Validate in parallel and ensure the report equals the one of sequential validation")
+    void testParallel() throws Exception {
+        StringBuilder sb = new StringBuilder("id,name,age\n");
+        for (int i = 1; i <= 10_000; i++) {
+            String age = (i % 97 == 0) ? "old" : (i % 89 == 0) ? "-1" : "42";
+            sb.append(i).append(",name").append(i).append(',').append(age).append('\n');
+        }
+        Table table = Table.fromSource(sb.toString(), Schema.fromJson(schemaJson, true),
+                TableDataSource.getDefaultCsvFormat());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (TableValidator validator : new TableValidator[]{new TableValidator(),
+                    new TableValidator(TableValidator.Mode.COLLECT_ALL, 50),
+                    new TableValidator(TableValidator.Mode.FAIL_FAST, 1)}) {
+                ValidationReport expected = validator.validate(table);
+                ValidationReport report = validator.validate(table, pool);
+                Assertions.assertEquals(expected.getErrors(), report.getErrors());
+                Assertions.assertEquals(expected.getRowCount(), report.getRowCount());
+                Assertions.assertEquals(expected.isComplete(), report.isComplete());
+            }
+            ValidationReport report = table.validateDataParallel(pool, TableValidator.Mode.COLLECT_ALL, 1000);
+            Assertions.assertEquals(10_000, report.getRowCount());
+            Assertions.assertEquals(10_000 / 97 + 10_000 / 89 - 1, report.getErrors().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Validate unique constraints in memory, after spilling to disk and in parallel")
+    void testUnique() throws Exception {
+        String uniqueSchema = "{\"fields\": [" +
+                "{\"name\": \"id\", \"type\": \"integer\", \"constraints\": {\"unique\": true}}," +
+                "{\"name\": \"code\", \"type\": \"string\", \"constraints\": {\"unique\": true}}" +
+                "]}";
+        Table table = Table.fromSource("id,code\n1,a\n2,b\n1,c\n3,\n4,\n5,b\n", Schema.fromJson(uniqueSchema, true),
+                TableDataSource.getDefaultCsvFormat());
+        List<ValidationError> errors = table.validateData().getErrors();
+        Assertions.assertEquals(2, errors.size());
+        assertError(errors.get(0), 3, "id", Field.CONSTRAINT_KEY_UNIQUE, "1");
+        assertError(errors.get(1), 6, "code", Field.CONSTRAINT_KEY_UNIQUE, "b");
+        Assertions.assertTrue(errors.get(0).getMessage().endsWith("row 1"));
+
+        StringBuilder sb = new StringBuilder("id,code\n");
+        for (int i = 1; i <= 5_000; i++) {
+            int id = (i % 101 == 0) ? i - 1 : i;
+            sb.append(id).append(",code").append((i % 211 == 0) ? 7 : i).append('\n');
+        }
+        table = Table.fromSource(sb.toString(), Schema.fromJson(uniqueSchema, true),
+                TableDataSource.getDefaultCsvFormat());
+        ValidationReport expected = table.validateData();
+        Assertions.assertEquals(5_000 / 101 + 5_000 / 211, expected.getErrors().size());
+        TableValidator spilling = new TableValidator(TableValidator.Mode.COLLECT_ALL, 1000, 0);
+        Assertions.assertEquals(expected.getErrors(), spilling.validate(table).getErrors());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertEquals(expected.getErrors(), new TableValidator().validate(table, pool).getErrors());
+            Assertions.assertEquals(expected.getErrors(), spilling.validate(table, pool).getErrors());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Validate unique numbers and ensure equal integers and decimals are duplicates")
+    void testUniqueNumbers() throws Exception {
+        String numberSchema = "{\"fields\": [" +
+                "{\"name\": \"amount\", \"type\": \"number\", \"constraints\": {\"unique\": true}}," +
+                "{\"name\": \"unit\", \"type\": \"string\"}" +
+                "], \"primaryKey\": [\"amount\", \"unit\"]}";
+        String numberData = "amount,unit\n1,kg\n1.0,g\n1E0,kg\n1000,g\n1E3,kg\n2.5,kg\n2.50,g\n";
+        Table table = Table.fromSource(numberData, Schema.fromJson(numberSchema, true),
+                TableDataSource.getDefaultCsvFormat());
+        List<ValidationError> errors = table.validateData().getErrors();
+        Assertions.assertEquals(5, errors.size());
+        assertError(errors.get(0), 2, "amount", Field.CONSTRAINT_KEY_UNIQUE, "1");
+        assertError(errors.get(1), 3, "amount", Field.CONSTRAINT_KEY_UNIQUE, "1");
+        assertError(errors.get(2), 3, null, Schema.JSON_KEY_PRIMARY_KEY, "1, kg");
+        assertError(errors.get(3), 5, "amount", Field.CONSTRAINT_KEY_UNIQUE, "1000");
+        assertError(errors.get(4), 7, "amount", Field.CONSTRAINT_KEY_UNIQUE, "2.5");
+        Assertions.assertTrue(errors.get(2).getMessage().endsWith("row 1"));
+        Assertions.assertEquals(errors, new TableValidator(TableValidator.Mode.COLLECT_ALL, 10, 0)
+                .validate(table).getErrors());
+    }
+
+    @Test
+    @DisplayName("Validate single and composite primary keys and ensure duplicates are reported with their rows")
+    void testPrimaryKey() throws Exception {
+        String pkSchema = "{\"fields\": [" +
+                "{\"name\": \"country\", \"type\": \"string\"}," +
+                "{\"name\": \"year\", \"type\": \"integer\"}," +
+                "{\"name\": \"population\", \"type\": \"integer\"}" +
+                "], \"primaryKey\": [\"country\", \"year\"]}";
+        String pkData = "country,year,population\n" +
+                "de,2020,83\n" +
+                "fr,2020,67\n" +
+                "de,2021,83\n" +
+                "de,2020,84\n" +
+                ",2022,1\n" +
+                "de,x,2\n";
+        Table table = Table.fromSource(pkData, Schema.fromJson(pkSchema, true), TableDataSource.getDefaultCsvFormat());
+        List<ValidationError> errors = table.validateData().getErrors();
+        Assertions.assertEquals(3, errors.size());
+        assertError(errors.get(0), 4, null, Schema.JSON_KEY_PRIMARY_KEY, "de, 2020");
+        Assertions.assertTrue(errors.get(0).getMessage().endsWith("row 1"));
+        assertError(errors.get(1), 5, null, Schema.JSON_KEY_PRIMARY_KEY, null);
+        // a key cell that can't be cast is a cast error, not a missing key
+        assertError(errors.get(2), 6, "year", ValidationError.TYPE, "x");
+        Assertions.assertEquals(errors, new TableValidator(TableValidator.Mode.COLLECT_ALL, 10, 0)
+                .validate(table).getErrors());
+
+        Schema schema = Schema.fromJson(pkSchema, true);
+        schema.setPrimaryKey("year");
+        table = Table.fromSource(pkData, schema, TableDataSource.getDefaultCsvFormat());
+        errors = table.validateData().getErrors();
+        Assertions.assertEquals(3, errors.size());
+        assertError(errors.get(0), 2, "year", Schema.JSON_KEY_PRIMARY_KEY, "2020");
+        assertError(errors.get(1), 4, "year", Schema.JSON_KEY_PRIMARY_KEY, "2020");
+        assertError(errors.get(2), 6, "year", ValidationError.TYPE, "x");
+    }
+
+    @Test
+    @DisplayName("Validate self-referencing foreign keys and ensure all violations are reported with their rows")
+    void testForeignKeys() throws Exception {
+        String fkSchema = "{\"fields\": [" +
+                "{\"name\": \"id\", \"type\": \"integer\"}," +
+                "{\"name\": \"parent\", \"type\": \"integer\"}," +
+                "{\"name\": \"name\", \"type\": \"string\"}" +
+                "], \"foreignKeys\": [" +
+                "{\"fields\": \"parent\", \"reference\": {\"resource\": \"\", \"fields\": \"id\"}}" +
+                "]}";
+        String fkData = "id,parent,name\n1,,root\n2,1,a\n3,9,b\nx,2,c\n5,8,d\n";
+        Table table = Table.fromSource(fkData, Schema.fromJson(fkSchema, true), TableDataSource.getDefaultCsvFormat());
+        ValidationReport report = table.validateData();
+        List<ValidationError> errors = report.getErrors();
+        Assertions.assertEquals(3, errors.size());
+        assertError(errors.get(0), 3, "parent", ValidationError.FOREIGN_KEY, "9");
+        assertError(errors.get(1), 4, "id", ValidationError.TYPE, "x");
+        assertError(errors.get(2), 5, "parent", ValidationError.FOREIGN_KEY, "8");
+        Assertions.assertTrue(report.isComplete());
+
+        report = new TableValidator(TableValidator.Mode.COLLECT_ALL, 2).validate(table);
+        Assertions.assertEquals(errors.subList(0, 2), report.getErrors());
+        Assertions.assertFalse(report.isComplete());
+
+        Schema mismatch = Schema.fromJson(fkSchema.replace("\"fields\": \"id\"", "\"fields\": \"name\""), true);
+        errors = Table.fromSource(fkData, mismatch, TableDataSource.getDefaultCsvFormat()).validateData().getErrors();
+        assertError(errors.get(0), 0, null, ValidationError.SCHEMA, null);
+
+        Table renamed = Table.fromSource("id,parent,title\n1,,root\n", Schema.fromJson(fkSchema, true),
+                TableDataSource.getDefaultCsvFormat());
+        errors = renamed.validateData().getErrors();
+        Assertions.assertEquals(1, errors.size());
+        assertError(errors.get(0), 0, null, ValidationError.HEADER, null);
+
+        // the first foreign key has more violations than the cap, but the second one has the earliest
+        String twoFkSchema = "{\"fields\": [" +
+                "{\"name\": \"id\", \"type\": \"integer\"}," +
+                "{\"name\": \"parent\", \"type\": \"integer\"}," +
+                "{\"name\": \"sibling\", \"type\": \"integer\"}" +
+                "], \"foreignKeys\": [" +
+                "{\"fields\": \"parent\", \"reference\": {\"resource\": \"\", \"fields\": \"id\"}}," +
+                "{\"fields\": \"sibling\", \"reference\": {\"resource\": \"\", \"fields\": \"id\"}}" +
+                "]}";
+        table = Table.fromSource("id,parent,sibling\n1,,\n2,1,7\n3,9,1\n4,8,1\n5,6,1\n",
+                Schema.fromJson(twoFkSchema, true), TableDataSource.getDefaultCsvFormat());
+        report = new TableValidator(TableValidator.Mode.COLLECT_ALL, 2).validate(table);
+        Assertions.assertEquals(2, report.getErrors().size());
+        assertError(report.getErrors().get(0), 2, "sibling", ValidationError.FOREIGN_KEY, "7");
+        assertError(report.getErrors().get(1), 3, "parent", ValidationError.FOREIGN_KEY, "9");
+        Assertions.assertFalse(report.isComplete());
+        Assertions.assertEquals(4, table.validateData().getErrors().size());
+    }
+
+    private static void assertError(ValidationError error, long row, String field, String constraint, String value) {
+        Assertions.assertEquals(row, error.getRowNumber(), error.toString());
+        Assertions.assertEquals(field, error.getFieldName(), error.toString());
+        Assertions.assertEquals(constraint, error.getConstraint(), error.toString());
+        Assertions.assertEquals(value, error.getValue(), error.toString());
+    }
+}
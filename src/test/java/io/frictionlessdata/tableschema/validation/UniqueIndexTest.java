@@ -0,0 +1,55 @@
+package io.frictionlessdata.tableschema.validation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+class UniqueIndexTest {
+
+    @Test
+    @DisplayName("Find duplicate exact and byte keys while growing the index")
+    void testInMemory() {
+        try (UniqueIndex index = new UniqueIndex(UniqueIndex.DEFAULT_MEMORY_BUDGET)) {
+            for (int i = 1; i <= 10_000; i++) {
+                Assertions.assertEquals(-1, index.add(i * 31L, i));
+                Assertions.assertEquals(-1, index.add(("key" + i).getBytes(StandardCharsets.UTF_8), i));
+            }
+            Assertions.assertEquals(5, index.add(5 * 31L, 20_000));
+            Assertions.assertEquals(7, index.add("key7".getBytes(StandardCharsets.UTF_8), 20_001));
+            // an exact key never equals a byte key, even if it equals its hash
+            byte[] bytes = "other".getBytes(StandardCharsets.UTF_8);
+            Assertions.assertEquals(-1, index.add(UniqueIndex.hash(bytes), 20_002));
+            Assertions.assertEquals(-1, index.add(bytes, 20_003));
+            Assertions.assertFalse(index.isSpilled());
+        }
+    }
+
+    @Test
+    @DisplayName("Spill to disk past the memory budget and report the duplicates on finishing")
+    void testSpill() {
+        Map<Long, Long> duplicates = new HashMap<>();
+        try (UniqueIndex index = new UniqueIndex(64 * 1024)) {
+            long row = 0;
+            for (int i = 0; i < 20_000; i++) {
+                index.add(("value" + i).getBytes(StandardCharsets.UTF_8), ++row);
+            }
+            Assertions.assertTrue(index.isSpilled());
+            index.add("value42".getBytes(StandardCharsets.UTF_8), ++row);
+            index.add(42L, ++row);
+            index.add(42L, ++row);
+            index.finish((rowNumber, firstRowNumber, exactKey, key) -> duplicates.put(rowNumber, firstRowNumber));
+        }
+        Assertions.assertEquals(2, duplicates.size());
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            try (UniqueIndex inMemory = new UniqueIndex(0, false)) {
+                inMemory.add(1L, 1);
+            }
+        });
+        Assertions.assertEquals(43L, duplicates.get(20_001L));
+        Assertions.assertEquals(20_002L, duplicates.get(20_003L));
+    }
+}